@@ -1,21 +1,15 @@
 package io.quarkus.calendars.command;
 
-import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
-import io.quarkus.calendars.model.CallEvent;
+import io.quarkus.calendars.config.GoogleCalendarConfig;
 import io.quarkus.calendars.model.Event;
-import io.quarkus.calendars.model.ReleaseEvent;
+import io.quarkus.calendars.service.EventCatalog;
 import io.quarkus.logging.Log;
 import jakarta.inject.Inject;
 import picocli.CommandLine;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Callable;
-import java.util.stream.Stream;
 
 @CommandLine.Command(
     name = "check-format",
@@ -24,7 +18,10 @@ import java.util.stream.Stream;
 public class CheckFormatCommand implements Callable<Integer> {
 
     @Inject
-    YAMLMapper yamlMapper;
+    EventCatalog catalog;
+
+    @Inject
+    GoogleCalendarConfig config;
 
     @Override
     public Integer call() {
@@ -32,11 +29,11 @@ public class CheckFormatCommand implements Callable<Integer> {
 
         Log.info("Checking YAML event formats...\n");
 
-        // Check release events
-        violations.addAll(checkDirectory("quarkus-releases", ReleaseEvent.class));
-
-        // Check call events
-        violations.addAll(checkDirectory("quarkus-calls", CallEvent.class));
+        // Check the events of each configured calendar
+        for (String name : config.calendarNames()) {
+            GoogleCalendarConfig.Calendar calendar = config.calendars().get(name);
+            violations.addAll(checkDirectory(calendar.sourceDirectory(), calendar.kind().eventClass()));
+        }
 
         if (violations.isEmpty()) {
             Log.info("\n✓ All event files are valid!");
@@ -50,49 +47,38 @@ public class CheckFormatCommand implements Callable<Integer> {
         }
     }
 
-    private <T extends Event> List<String> checkDirectory(String directory, Class<T> eventClass) {
+    private List<String> checkDirectory(String directory, Class<? extends Event> eventClass) {
         List<String> violations = new ArrayList<>();
-        Path dir = Paths.get(directory);
+        EventCatalog.DirectoryScan scan = catalog.scan(directory);
 
-        if (!Files.exists(dir)) {
+        if (!scan.exists()) {
             Log.warn("  ⚠ Directory " + directory + " does not exist, skipping");
             return violations;
         }
 
-        try (Stream<Path> paths = Files.walk(dir)) {
-            List<Path> yamlFiles = paths
-                .filter(Files::isRegularFile)
-                .filter(path -> path.toString().endsWith(".yaml") || path.toString().endsWith(".yml"))
-                .toList();
-
-            Log.info("Checking " + yamlFiles.size() + " file(s) in " + directory + "/");
-
-            for (Path yamlFile : yamlFiles) {
-                String fileName = yamlFile.toString();
-                try {
-                    Event event = yamlMapper.readValue(yamlFile.toFile(), Event.class);
-
-                    // Check if it's the correct type
-                    if (!eventClass.isInstance(event)) {
-                        violations.add(fileName + ": Wrong event type (expected " + eventClass.getSimpleName() + ")");
-                        continue;
-                    }
-
-                    // Validate the event
-                    event.validate();
-
-                    Log.info("  ✓ " + fileName);
-
-                } catch (IOException e) {
-                    violations.add(fileName + ": Failed to parse YAML - " + e.getMessage());
-                } catch (IllegalArgumentException e) {
-                    violations.add(fileName + ": Validation failed - " + e.getMessage());
-                } catch (Exception e) {
-                    violations.add(fileName + ": Unexpected error - " + e.getMessage());
-                }
+        if (scan.error() != null) {
+            violations.add(directory + ": Failed to read directory - " + scan.error().getMessage());
+            return violations;
+        }
+
+        Log.info("Checking " + scan.files().size() + " file(s) in " + directory + "/");
+
+        for (EventCatalog.ParsedFile parsed : scan.parseAll()) {
+            String fileName = parsed.file().toString();
+            Exception error = parsed.error();
+
+            if (parsed.problem() == EventCatalog.Problem.PARSE) {
+                violations.add(fileName + ": Failed to parse YAML - " + error.getMessage());
+            } else if (parsed.event() != null && parsed.event().getKind().eventClass() != eventClass) {
+                // Check if it's the correct type
+                violations.add(fileName + ": Wrong event type (expected " + eventClass.getSimpleName() + ")");
+            } else if (parsed.problem() == EventCatalog.Problem.VALIDATION) {
+                violations.add(fileName + ": Validation failed - " + error.getMessage());
+            } else if (parsed.problem() == EventCatalog.Problem.UNEXPECTED) {
+                violations.add(fileName + ": Unexpected error - " + error.getMessage());
+            } else {
+                Log.info("  ✓ " + fileName);
             }
-        } catch (IOException e) {
-            violations.add(directory + ": Failed to read directory - " + e.getMessage());
         }
 
         return violations;
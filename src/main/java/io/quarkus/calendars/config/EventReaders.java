@@ -0,0 +1,57 @@
+package io.quarkus.calendars.config;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.quarkus.calendars.model.CallEvent;
+import io.quarkus.calendars.model.Event;
+import io.quarkus.calendars.model.ReleaseEvent;
+
+/**
+ * Pre-built, thread-safe readers for event documents.
+ * <p>
+ * Each reader has its root deserializer resolved up front, so reading a file skips the type lookup
+ * done by {@code ObjectMapper.readValue}. The readers fail on unknown properties, so that a misspelled
+ * field is reported rather than dropped, and do not keep the source content in error locations.
+ */
+public final class EventReaders {
+
+    private final ObjectReader event;
+    private final ObjectReader release;
+    private final ObjectReader call;
+
+    public EventReaders(ObjectMapper mapper) {
+        this.event = tune(mapper.readerFor(Event.class));
+        this.release = tune(mapper.readerFor(ReleaseEvent.class));
+        this.call = tune(mapper.readerFor(CallEvent.class));
+    }
+
+    /**
+     * Reader resolving the event type from the document.
+     */
+    public ObjectReader event() {
+        return event;
+    }
+
+    /**
+     * Reader for release documents.
+     */
+    public ObjectReader release() {
+        return release;
+    }
+
+    /**
+     * Reader for call documents.
+     */
+    public ObjectReader call() {
+        return call;
+    }
+
+    private static ObjectReader tune(ObjectReader reader) {
+        return reader
+                .with(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS)
+                .without(JsonParser.Feature.INCLUDE_SOURCE_IN_LOCATION);
+    }
+}
@@ -1,8 +1,13 @@
 package io.quarkus.calendars.config;
 
+import io.quarkus.calendars.model.ImmutableEvent;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
 
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 
@@ -17,23 +22,228 @@ public interface GoogleCalendarConfig {
 
     String applicationName();
 
-    Calendars calendars();
-
     /**
-     * Configuration for the different calendars used.
+     * The calendars to reconcile, by name. Each one is filled from its own directory of event files, so
+     * adding a calendar only takes configuration.
      */
-    interface Calendars {
-        Calendar releases();
+    Map<String, Calendar> calendars();
 
-        Calendar calls();
+    /**
+     * The names of the configured calendars, by their {@link Calendar#order()}, then by name. The calendars
+     * map does not keep the order of the configuration file.
+     */
+    default List<String> calendarNames() {
+        return calendars().entrySet().stream()
+                .sorted(Comparator.comparing((Map.Entry<String, Calendar> entry) ->
+                                entry.getValue().order().orElse(Integer.MAX_VALUE))
+                        .thenComparing(Map.Entry::getKey))
+                .map(Map.Entry::getKey)
+                .toList();
     }
 
+    /**
+     * Incremental synchronization of the remote calendars.
+     */
+    Sync sync();
+
+    /**
+     * Adaptive limit of concurrent requests to the Google Calendar API.
+     */
+    Concurrency concurrency();
+
+    /**
+     * Retries of requests failing with transient errors.
+     */
+    Retry retry();
+
+    /**
+     * HTTP transport shared by all requests to the Google Calendar API.
+     */
+    Transport transport();
+
     /**
      * Configuration for a single calendar.
      */
     interface Calendar {
+
+        /**
+         * ID of the Google calendar. Reconciling a calendar without an ID fails.
+         */
         Optional<String> id();
 
+        /**
+         * Name of the calendar, also the default directory of its event files.
+         */
         String name();
+
+        /**
+         * Directory holding the event files of this calendar, relative to the working directory.
+         * Default: the name of the calendar
+         */
+        Optional<String> directory();
+
+        /**
+         * Type of the events of this calendar: {@code release} or {@code call}.
+         */
+        ImmutableEvent.Kind kind();
+
+        /**
+         * Position of this calendar among the calendars reconciled together, whose actions are reported
+         * calendar by calendar in this order.
+         * Default: after the calendars with a position, by name
+         */
+        Optional<Integer> order();
+
+        /**
+         * Number of months before today to reconcile.
+         * Default: {@code reconciliation.months-before}
+         */
+        Optional<Integer> monthsBefore();
+
+        /**
+         * Number of months after today to reconcile.
+         * Default: {@code reconciliation.months-after}
+         */
+        Optional<Integer> monthsAfter();
+
+        /**
+         * Maximum number of actions per batch request for this calendar.
+         * Default: {@code reconciliation.batch-size}
+         */
+        Optional<Integer> batchSize();
+
+        /**
+         * Maximum number of batch requests in flight for this calendar.
+         * Default: {@code reconciliation.parallelism}
+         */
+        Optional<Integer> parallelism();
+
+        /**
+         * The directory holding the event files of this calendar.
+         */
+        default String sourceDirectory() {
+            return directory().orElse(name());
+        }
+    }
+
+    /**
+     * Configuration for incremental synchronization.
+     */
+    interface Sync {
+
+        /**
+         * Whether remote events are mirrored locally and only the changes since the last run are fetched.
+         * The first run, any run after the sync token expired, and any run reaching further back than the
+         * mirror, lists the events from the start of the reconciled range on.
+         * Default: false
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * Directory holding the mirrored events and sync tokens, one file per calendar. It is kept outside
+         * the build output, so that it survives rebuilds, and can be deleted at any time to force a full sync.
+         * Default: .calendar-sync
+         */
+        @WithDefault(".calendar-sync")
+        String directory();
+    }
+
+    /**
+     * Configuration for the adaptive concurrency limit.
+     */
+    interface Concurrency {
+
+        /**
+         * Number of concurrent requests allowed at first.
+         * Default: 4
+         */
+        @WithDefault("4")
+        int initialLimit();
+
+        /**
+         * Largest number of concurrent requests the limit grows to.
+         * Default: 16
+         */
+        @WithDefault("16")
+        int maxLimit();
+    }
+
+    /**
+     * Configuration for retrying failed requests.
+     */
+    interface Retry {
+
+        /**
+         * Number of attempts per request, including the first one. A value of 1 disables retries.
+         * Default: 4
+         */
+        @WithDefault("4")
+        int maxAttempts();
+
+        /**
+         * Delay before the first retry, doubled for each further retry, with random jitter.
+         * Default: 1s
+         */
+        @WithDefault("1s")
+        Duration initialBackoff();
+
+        /**
+         * Longest delay between two attempts, unless the server asks for a longer one with {@code Retry-After}.
+         * Default: 30s
+         */
+        @WithDefault("30s")
+        Duration maxBackoff();
+
+        /**
+         * Maximum number of retried requests per reconciliation run, reads and writes of all calendars
+         * together, so that a prolonged outage fails fast.
+         * Default: 50
+         */
+        @WithDefault("50")
+        int budget();
+    }
+
+    /**
+     * Configuration for the HTTP transport.
+     */
+    interface Transport {
+
+        /**
+         * Whether connections are pooled and kept alive between requests. When disabled, every request goes
+         * through the JDK {@code HttpURLConnection}.
+         * Default: true
+         */
+        @WithDefault("true")
+        boolean pooled();
+
+        /**
+         * Maximum number of pooled connections. In-flight requests are bounded by the concurrency limit, so
+         * this does not need to exceed {@code concurrency.max-limit}.
+         * Default: 16
+         */
+        @WithDefault("16")
+        int maxConnections();
+
+        /**
+         * How long a pooled connection may stay idle before it is closed.
+         * Default: 30s
+         */
+        @WithDefault("30s")
+        Duration idleTimeout();
+
+        /**
+         * Timeout for establishing a connection.
+         * Default: 20s
+         */
+        @WithDefault("20s")
+        Duration connectTimeout();
+
+        /**
+         * Timeout for reading from an established connection.
+         * Default: 60s
+         */
+        @WithDefault("60s")
+        Duration readTimeout();
     }
 }
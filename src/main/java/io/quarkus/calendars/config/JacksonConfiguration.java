@@ -2,6 +2,7 @@ package io.quarkus.calendars.config;
 
 import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Produces;
 import jakarta.inject.Singleton;
@@ -11,9 +12,29 @@ public class JacksonConfiguration {
 
     @Produces
     @Singleton
-    public YAMLMapper yamlMapper() {
-        return YAMLMapper.builder()
-                .addModule(new JavaTimeModule())
-                .build();
+    public YAMLMapper yamlMapper(LocalEventsConfig config) {
+        return createYamlMapper(config.blackbird());
+    }
+
+    @Produces
+    @Singleton
+    public EventReaders eventReaders(YAMLMapper yamlMapper) {
+        return new EventReaders(yamlMapper);
+    }
+
+    /**
+     * Create the YAML mapper used for event files.
+     *
+     * @param blackbird whether to register the Blackbird module, which generates bytecode for
+     *                  property access (JVM mode only)
+     * @return the mapper
+     */
+    public static YAMLMapper createYamlMapper(boolean blackbird) {
+        YAMLMapper.Builder builder = YAMLMapper.builder()
+                .addModule(new JavaTimeModule());
+        if (blackbird) {
+            builder.addModule(new BlackbirdModule());
+        }
+        return builder.build();
     }
 }
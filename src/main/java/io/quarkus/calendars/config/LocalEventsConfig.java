@@ -0,0 +1,79 @@
+package io.quarkus.calendars.config;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Configuration for loading local event files.
+ */
+@ConfigMapping(prefix = "local-events")
+public interface LocalEventsConfig {
+
+    /**
+     * Maximum number of event files parsed concurrently.
+     * A value of 1 loads the files sequentially.
+     * Default: 8
+     */
+    @WithDefault("8")
+    int parallelism();
+
+    /**
+     * Whether to read event files with the built-in scanner for the flat event format, falling back to
+     * the YAML mapper for anything it does not handle.
+     * Default: true
+     */
+    @WithDefault("true")
+    boolean fastScanner();
+
+    /**
+     * Whether to register the Blackbird module, which replaces reflective property access with
+     * generated bytecode when deserializing events. Only effective in JVM mode.
+     * Default: false
+     */
+    @WithDefault("false")
+    boolean blackbird();
+
+    /**
+     * Cache of parsed events, reused across runs for unchanged files.
+     */
+    Cache cache();
+
+    /**
+     * Events embedded in the application at build time.
+     */
+    Bundle bundle();
+
+    /**
+     * Configuration for the on-disk event cache.
+     */
+    interface Cache {
+
+        /**
+         * Whether parsed events are cached on disk.
+         * Default: true
+         */
+        @WithDefault("true")
+        boolean enabled();
+
+        /**
+         * Directory holding the cache files. It can be deleted at any time.
+         * Default: target/event-cache
+         */
+        @WithDefault("target/event-cache")
+        String directory();
+    }
+
+    /**
+     * Configuration for the build-time event bundle.
+     */
+    interface Bundle {
+
+        /**
+         * Whether events are served from the bundle embedded at build time, when present.
+         * Disable to read the event files from the file system, e.g. while authoring them.
+         * Default: true
+         */
+        @WithDefault("true")
+        boolean enabled();
+    }
+}
@@ -1,6 +1,7 @@
 package io.quarkus.calendars.config;
 
 import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
 
 /**
  * Configuration for calendar reconciliation.
@@ -19,4 +20,58 @@ public interface ReconciliationConfig {
      * Default: 4 months
      */
     int monthsAfter();
+
+    /**
+     * Maximum number of actions sent to Google Calendar in a single batch request (at most 50).
+     * A value of 1 sends one request per action.
+     * Default: 50
+     */
+    @WithDefault("50")
+    int batchSize();
+
+    /**
+     * Maximum number of batch requests sent concurrently to each calendar. The actual concurrency is
+     * adapted within this bound by the limiter configured under {@code google.calendar.concurrency}.
+     * A value of 1 sends them one after another.
+     * Default: 16
+     */
+    @WithDefault("16")
+    int parallelism();
+
+    /**
+     * Only download the events created by this application, selecting them on the server by their
+     * {@code managedBy} private extended property. Only applies with {@link #warnOrphans()} disabled, as
+     * orphan warnings need all events. A local event sharing its title and date with a hand-made event is
+     * then created again instead of taking that event over.
+     * Ignored when incremental sync is enabled, which cannot filter on the server.
+     * Default: false
+     */
+    @WithDefault("false")
+    boolean managedOnly();
+
+    /**
+     * Warn about remote events that were not created by this application and have no local file.
+     * Default: true
+     */
+    @WithDefault("true")
+    boolean warnOrphans();
+
+    /**
+     * How local and remote events are compared: {@code hash} lists all remote events of the range, then maps
+     * them by title and date; {@code merge} compares them one day at a time as the remote pages are listed,
+     * holding only the remote events of a few pages and days. Either way the actions are executed once the
+     * listing is complete, and the local events are loaded sorted. Both produce the same actions, grouped by
+     * type with {@code hash} and by day with {@code merge}.
+     * Default: hash
+     */
+    @WithDefault("hash")
+    DiffEngine diffEngine();
+
+    /**
+     * Diff engine comparing local and remote events.
+     */
+    enum DiffEngine {
+        HASH,
+        MERGE
+    }
 }
@@ -0,0 +1,78 @@
+package io.quarkus.calendars.model;
+
+import java.time.Duration;
+
+/**
+ * Outcome of executing a single {@link ReconciliationAction}.
+ */
+public class ActionResult {
+
+    private final ReconciliationAction action;
+    private final boolean success;
+    private final int statusCode;
+    private final String error;
+    private final boolean retryable;
+    private final Duration retryAfter;
+
+    private ActionResult(ReconciliationAction action, boolean success, int statusCode, String error,
+                         boolean retryable, Duration retryAfter) {
+        this.action = action;
+        this.success = success;
+        this.statusCode = statusCode;
+        this.error = error;
+        this.retryable = retryable;
+        this.retryAfter = retryAfter;
+    }
+
+    public static ActionResult success(ReconciliationAction action) {
+        return new ActionResult(action, true, 0, null, false, null);
+    }
+
+    /**
+     * @param statusCode the HTTP status code of the failed request, or 0 if the request got no response
+     * @param error      the error message, which may be {@code null}
+     */
+    public static ActionResult failure(ReconciliationAction action, int statusCode, String error) {
+        return new ActionResult(action, false, statusCode, error, false, null);
+    }
+
+    /**
+     * @param statusCode the HTTP status code of the failed request, or 0 if the request got no response
+     * @param error      the error message, which may be {@code null}
+     * @param retryable  whether the failure is transient
+     * @param retryAfter the delay before retrying requested by the server, or {@code null}
+     */
+    public static ActionResult failure(ReconciliationAction action, int statusCode, String error, boolean retryable,
+                                       Duration retryAfter) {
+        return new ActionResult(action, false, statusCode, error, retryable, retryAfter);
+    }
+
+    public ReconciliationAction getAction() {
+        return action;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public boolean isRetryable() {
+        return retryable;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    @Override
+    public String toString() {
+        return isSuccess() ? action + ": done" : action + ": failed (" + error + ")";
+    }
+}
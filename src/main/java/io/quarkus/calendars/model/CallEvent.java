@@ -71,8 +71,6 @@ public class CallEvent extends Event {
 
     @Override
     public Boolean getAllDay() {
-        // Ensure parent field is set
-        super.setAllDay(false);
         return false;
     }
 
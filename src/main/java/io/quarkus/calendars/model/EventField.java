@@ -0,0 +1,24 @@
+package io.quarkus.calendars.model;
+
+/**
+ * Fields of a Google Calendar event set from a local event.
+ */
+public enum EventField {
+
+    DESCRIPTION("description"),
+    START("start"),
+    END("end");
+
+    private final String apiName;
+
+    EventField(String apiName) {
+        this.apiName = apiName;
+    }
+
+    /**
+     * The name of the field in the Google Calendar API.
+     */
+    public String apiName() {
+        return apiName;
+    }
+}
@@ -0,0 +1,77 @@
+package io.quarkus.calendars.model;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Identity of an event when matching local and remote events: its title and date.
+ * <p>
+ * The hash is computed once, and equality compares the date before the title, so looking up a key costs
+ * no more than a hash lookup.
+ */
+public final class EventKey {
+
+    private static final long NO_DATE = Long.MIN_VALUE;
+
+    private final String title;
+    private final long epochDay;
+    private final int hash;
+
+    private EventKey(String title, long epochDay) {
+        this.title = title;
+        this.epochDay = epochDay;
+        this.hash = 31 * Objects.hashCode(title) + Long.hashCode(epochDay);
+    }
+
+    /**
+     * @param title    the title, or {@code null}
+     * @param epochDay the date as epoch day
+     */
+    public static EventKey of(String title, long epochDay) {
+        return new EventKey(title, epochDay);
+    }
+
+    /**
+     * @param title the title, or {@code null}
+     * @param date  the date, or {@code null}
+     */
+    public static EventKey of(String title, LocalDate date) {
+        return new EventKey(title, date != null ? date.toEpochDay() : NO_DATE);
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * The date as epoch day, or {@link Long#MIN_VALUE} if the event has no date.
+     */
+    public long getEpochDay() {
+        return epochDay;
+    }
+
+    public LocalDate getDate() {
+        return epochDay != NO_DATE ? LocalDate.ofEpochDay(epochDay) : null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EventKey other)) {
+            return false;
+        }
+        return hash == other.hash && epochDay == other.epochDay && Objects.equals(title, other.title);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return title + "|" + getDate();
+    }
+}
@@ -0,0 +1,215 @@
+package io.quarkus.calendars.model;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Objects;
+
+/**
+ * Immutable snapshot of a calendar event, safe to share between threads and to use as a map key.
+ * <p>
+ * Events are bound from YAML into the mutable {@link Event} classes and converted once with {@link #of(Event)}.
+ * Date, time and duration are packed into primitives and the hash code is computed upfront, so equality
+ * checks and lookups do not allocate.
+ */
+public final class ImmutableEvent {
+
+    /**
+     * Kind of event, matching the {@link Event} subclasses.
+     */
+    public enum Kind {
+        RELEASE("release", ReleaseEvent.class),
+        CALL("call", CallEvent.class);
+
+        private final String typeName;
+        private final Class<? extends Event> eventClass;
+
+        Kind(String typeName, Class<? extends Event> eventClass) {
+            this.typeName = typeName;
+            this.eventClass = eventClass;
+        }
+
+        /**
+         * The value of the {@code type} property in event files.
+         */
+        public String typeName() {
+            return typeName;
+        }
+
+        public Class<? extends Event> eventClass() {
+            return eventClass;
+        }
+
+        public static Kind of(Class<? extends Event> eventClass) {
+            for (Kind kind : values()) {
+                if (kind.eventClass == eventClass) {
+                    return kind;
+                }
+            }
+            throw new IllegalArgumentException("Unknown event class " + eventClass.getName());
+        }
+    }
+
+    private static final long NO_DATE = Long.MIN_VALUE;
+    private static final long NO_TIME = -1;
+    private static final int NO_DURATION = -1;
+
+    private final Kind kind;
+    private final String title;
+    private final String description;
+    private final long epochDay;
+    private final long nanoOfDay;
+    private final long durationSeconds;
+    private final int durationNanos;
+    private final String callLink;
+    private final int hash;
+    private EventKey key;
+
+    private ImmutableEvent(Kind kind, String title, String description, long epochDay, long nanoOfDay,
+                           long durationSeconds, int durationNanos, String callLink) {
+        this.kind = kind;
+        this.title = title;
+        this.description = description;
+        this.epochDay = epochDay;
+        this.nanoOfDay = nanoOfDay;
+        this.durationSeconds = durationSeconds;
+        this.durationNanos = durationNanos;
+        this.callLink = callLink;
+        this.hash = computeHash();
+    }
+
+    /**
+     * Take a snapshot of an event. Missing values are kept, so invalid events can be represented too.
+     */
+    public static ImmutableEvent of(Event event) {
+        Kind kind = event instanceof CallEvent ? Kind.CALL : Kind.RELEASE;
+        return of(kind, event.getTitle(), event.getDescription(), event.getDate(), event.getTime(),
+                event.getDuration(), event.getCallLink());
+    }
+
+    /**
+     * Create an event from its values.
+     */
+    public static ImmutableEvent of(Kind kind, String title, String description, LocalDate date,
+                                    LocalTime time, Duration duration, String callLink) {
+        return new ImmutableEvent(Objects.requireNonNull(kind), title, description,
+                date != null ? date.toEpochDay() : NO_DATE,
+                time != null ? time.toNanoOfDay() : NO_TIME,
+                duration != null ? duration.getSeconds() : 0,
+                duration != null ? duration.getNano() : NO_DURATION,
+                callLink);
+    }
+
+    /**
+     * Create a mutable copy of this event.
+     */
+    public Event toEvent() {
+        Event event = kind == Kind.CALL ? new CallEvent() : new ReleaseEvent();
+        event.setTitle(title);
+        event.setDescription(description);
+        event.setDate(getDate());
+        event.setTime(getTime());
+        event.setDuration(getDuration());
+        event.setCallLink(callLink);
+        return event;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public LocalDate getDate() {
+        return epochDay != NO_DATE ? LocalDate.ofEpochDay(epochDay) : null;
+    }
+
+    /**
+     * The date as epoch day, for comparisons without allocating a {@link LocalDate}.
+     * Only meaningful if the event has a date.
+     */
+    public long getEpochDay() {
+        return epochDay;
+    }
+
+    public LocalTime getTime() {
+        return nanoOfDay != NO_TIME ? LocalTime.ofNanoOfDay(nanoOfDay) : null;
+    }
+
+    public Duration getDuration() {
+        return durationNanos != NO_DURATION ? Duration.ofSeconds(durationSeconds, durationNanos) : null;
+    }
+
+    public String getCallLink() {
+        return callLink;
+    }
+
+    /**
+     * The key matching this event with remote events, created on first use.
+     */
+    public EventKey getKey() {
+        // Benign race: keys are immutable, so concurrent callers at worst create equal keys
+        EventKey result = key;
+        if (result == null) {
+            result = EventKey.of(title, epochDay);
+            key = result;
+        }
+        return result;
+    }
+
+    public boolean isAllDay() {
+        return kind == Kind.RELEASE;
+    }
+
+    private int computeHash() {
+        int result = kind.hashCode();
+        result = 31 * result + Objects.hashCode(title);
+        result = 31 * result + Objects.hashCode(description);
+        result = 31 * result + Long.hashCode(epochDay);
+        result = 31 * result + Long.hashCode(nanoOfDay);
+        result = 31 * result + Long.hashCode(durationSeconds);
+        result = 31 * result + durationNanos;
+        result = 31 * result + Objects.hashCode(callLink);
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ImmutableEvent other)) {
+            return false;
+        }
+        return hash == other.hash
+                && kind == other.kind
+                && epochDay == other.epochDay
+                && nanoOfDay == other.nanoOfDay
+                && durationSeconds == other.durationSeconds
+                && durationNanos == other.durationNanos
+                && Objects.equals(title, other.title)
+                && Objects.equals(description, other.description)
+                && Objects.equals(callLink, other.callLink);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "ImmutableEvent{" +
+                "kind=" + kind +
+                ", title='" + title + '\'' +
+                ", date=" + getDate() +
+                ", time=" + getTime() +
+                '}';
+    }
+}
@@ -1,5 +1,12 @@
 package io.quarkus.calendars.model;
 
+import io.quarkus.calendars.util.EventUtils;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 /**
  * Represents an action to be performed during calendar reconciliation.
  */
@@ -13,43 +20,74 @@ public class ReconciliationAction {
     }
 
     private final ActionType type;
-    private final Event localEvent;
+    private final ImmutableEvent localEvent;
     private final com.google.api.services.calendar.model.Event remoteEvent;
     private final String calendarId;
+    private final String eventId;
     private final String description;
+    private final Set<EventField> changedFields;
 
-    private ReconciliationAction(ActionType type, Event localEvent,
+    private ReconciliationAction(ActionType type, ImmutableEvent localEvent,
                                  com.google.api.services.calendar.model.Event remoteEvent,
-                                 String calendarId, String description) {
+                                 String calendarId, String eventId, String description) {
+        this(type, localEvent, remoteEvent, calendarId, eventId, description, Set.of());
+    }
+
+    private ReconciliationAction(ActionType type, ImmutableEvent localEvent,
+                                 com.google.api.services.calendar.model.Event remoteEvent,
+                                 String calendarId, String eventId, String description,
+                                 Set<EventField> changedFields) {
         this.type = type;
         this.localEvent = localEvent;
         this.remoteEvent = remoteEvent;
         this.calendarId = calendarId;
+        this.eventId = eventId;
         this.description = description;
+        this.changedFields = changedFields;
     }
 
-    public static ReconciliationAction create(Event localEvent, String calendarId) {
+    public static ReconciliationAction create(ImmutableEvent localEvent, String calendarId) {
         return new ReconciliationAction(
             ActionType.CREATE,
             localEvent,
             null,
             calendarId,
+            EventUtils.newEventId(),
             "Create event: " + localEvent.getTitle()
         );
     }
 
-    public static ReconciliationAction update(Event localEvent,
+    public static ReconciliationAction update(ImmutableEvent localEvent,
                                              com.google.api.services.calendar.model.Event remoteEvent,
                                              String calendarId) {
+        return update(localEvent, remoteEvent, calendarId, EnumSet.allOf(EventField.class));
+    }
+
+    /**
+     * Update only the given fields of the remote event.
+     */
+    public static ReconciliationAction update(ImmutableEvent localEvent,
+                                             com.google.api.services.calendar.model.Event remoteEvent,
+                                             String calendarId,
+                                             Set<EventField> changedFields) {
         return new ReconciliationAction(
             ActionType.UPDATE,
             localEvent,
             remoteEvent,
             calendarId,
-            "Update event: " + localEvent.getTitle()
+            remoteEvent.getId(),
+            "Update event: " + localEvent.getTitle() + " (" + apiNames(changedFields) + ")",
+            Set.copyOf(changedFields)
         );
     }
 
+    private static String apiNames(Set<EventField> fields) {
+        return Arrays.stream(EventField.values())
+            .filter(fields::contains)
+            .map(EventField::apiName)
+            .collect(Collectors.joining(", "));
+    }
+
     public static ReconciliationAction delete(com.google.api.services.calendar.model.Event remoteEvent,
                                              String calendarId) {
         return new ReconciliationAction(
@@ -57,6 +95,7 @@ public class ReconciliationAction {
             null,
             remoteEvent,
             calendarId,
+            remoteEvent.getId(),
             "Delete event: " + remoteEvent.getSummary()
         );
     }
@@ -68,6 +107,7 @@ public class ReconciliationAction {
             null,
             remoteEvent,
             calendarId,
+            remoteEvent.getId(),
             "Warning: Remote event without local file: " + remoteEvent.getSummary()
         );
     }
@@ -76,7 +116,7 @@ public class ReconciliationAction {
         return type;
     }
 
-    public Event getLocalEvent() {
+    public ImmutableEvent getLocalEvent() {
         return localEvent;
     }
 
@@ -88,6 +128,21 @@ public class ReconciliationAction {
         return calendarId;
     }
 
+    /**
+     * The ID of the remote event: the existing one, or for creations the ID chosen up front, so that
+     * retrying a creation cannot create the event twice.
+     */
+    public String getEventId() {
+        return eventId;
+    }
+
+    /**
+     * The fields an update sets, empty for other actions.
+     */
+    public Set<EventField> getChangedFields() {
+        return changedFields;
+    }
+
     public String getDescription() {
         return description;
     }
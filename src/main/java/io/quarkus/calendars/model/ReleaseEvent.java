@@ -34,8 +34,6 @@ public class ReleaseEvent extends Event {
 
     @Override
     public Boolean getAllDay() {
-        // Ensure parent field is set
-        super.setAllDay(true);
         return true;
     }
 
@@ -0,0 +1,261 @@
+package io.quarkus.calendars.service;
+
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import io.quarkus.calendars.config.GoogleCalendarConfig;
+import io.quarkus.calendars.config.ReconciliationConfig;
+import io.quarkus.calendars.model.ActionResult;
+import io.quarkus.calendars.model.ReconciliationAction;
+import io.quarkus.calendars.util.EventUtils;
+import io.quarkus.logging.Log;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Executes reconciliation actions against Google Calendar.
+ * <p>
+ * Write actions are grouped per calendar and sent in batch requests of up to
+ * {@link GoogleCalendarService#MAX_BATCH_SIZE} actions, so bulk changes take a few round trips instead of
+ * one per action. Each action succeeds or fails on its own, and transient failures are retried in
+ * further rounds according to the {@link RetryPolicy}, within the {@link RetryBudget} of the run, which
+ * is shared with the other calendars and with reads.
+ * <p>
+ * Batches run on virtual threads, with at most {@code reconciliation.parallelism} batches in flight per
+ * calendar, unless the calendar configures its own batch size and parallelism, within the adaptive limit
+ * of {@link GoogleCalendarService}. Results are logged and returned in the order of the actions, whatever
+ * the completion order.
+ */
+@ApplicationScoped
+public class ActionExecutor {
+
+    @Inject
+    GoogleCalendarService calendarService;
+
+    @Inject
+    ReconciliationConfig config;
+
+    @Inject
+    GoogleCalendarConfig calendarConfig;
+
+    /**
+     * Execute the actions, retrying transient failures, and log the outcome of each.
+     *
+     * @return the result of each action, in the order of the actions
+     */
+    public List<ActionResult> execute(List<ReconciliationAction> actions) {
+        Map<ReconciliationAction, ActionResult> results = new IdentityHashMap<>();
+        List<ReconciliationAction> writes = new ArrayList<>();
+        for (ReconciliationAction action : actions) {
+            if (action.getType() == ReconciliationAction.ActionType.WARN_ORPHAN) {
+                results.put(action, ActionResult.success(action));
+            } else {
+                writes.add(action);
+            }
+        }
+
+        RetryPolicy retryPolicy = calendarService.getRetryPolicy();
+        RetryBudget budget = calendarService.getRetryBudget();
+        for (int attempt = 1; !writes.isEmpty(); attempt++) {
+            List<ReconciliationAction> retries = new ArrayList<>();
+            int overBudget = 0;
+            Duration delay = Duration.ZERO;
+            for (ActionResult result : executeChunks(chunks(writes))) {
+                result = attempt > 1 ? settleRetried(result) : result;
+                results.put(result.getAction(), result);
+                if (!result.isSuccess() && result.isRetryable() && attempt < retryPolicy.maxAttempts()) {
+                    if (budget.tryAcquire()) {
+                        retries.add(result.getAction());
+                        Duration backoff = retryPolicy.backoff(attempt, result.getRetryAfter());
+                        delay = backoff.compareTo(delay) > 0 ? backoff : delay;
+                    } else {
+                        overBudget++;
+                    }
+                }
+            }
+            if (overBudget > 0) {
+                Log.warnf("Retry budget exhausted, %d failed action(s) not retried", overBudget);
+            }
+            if (!retries.isEmpty()) {
+                Log.infof("Retrying %d action(s) in %d ms (attempt %d of %d)",
+                        retries.size(), delay.toMillis(), attempt + 1, retryPolicy.maxAttempts());
+                pause(delay);
+            }
+            writes = retries;
+        }
+
+        List<ActionResult> ordered = new ArrayList<>(actions.size());
+        int failures = 0;
+        for (ReconciliationAction action : actions) {
+            ActionResult result = results.get(action);
+            log(result);
+            ordered.add(result);
+            if (!result.isSuccess()) {
+                failures++;
+            }
+        }
+        if (failures > 0) {
+            Log.warnf("%d of %d action(s) failed", failures, actions.size());
+        }
+        return ordered;
+    }
+
+    /**
+     * Interpret the result of a retried action: an earlier attempt may have been applied even though its
+     * response was lost. Creations use IDs chosen up front, so a conflict means the event was created;
+     * a deletion of an event that is gone has the intended effect. Updates set the same fields
+     * again and can be repeated as they are.
+     */
+    private static ActionResult settleRetried(ActionResult result) {
+        if (result.isSuccess()) {
+            return result;
+        }
+        ReconciliationAction.ActionType type = result.getAction().getType();
+        int statusCode = result.getStatusCode();
+        if (type == ReconciliationAction.ActionType.CREATE && statusCode == 409
+                || type == ReconciliationAction.ActionType.DELETE && (statusCode == 404 || statusCode == 410)) {
+            return ActionResult.success(result.getAction());
+        }
+        return result;
+    }
+
+    /**
+     * Group write actions per calendar, in batches of at most the configured size.
+     */
+    private List<List<ReconciliationAction>> chunks(List<ReconciliationAction> writes) {
+        Map<String, List<ReconciliationAction>> writesByCalendar = new LinkedHashMap<>();
+        for (ReconciliationAction action : writes) {
+            writesByCalendar.computeIfAbsent(action.getCalendarId(), id -> new ArrayList<>()).add(action);
+        }
+        List<List<ReconciliationAction>> chunks = new ArrayList<>();
+        for (List<ReconciliationAction> calendarWrites : writesByCalendar.values()) {
+            int batchSize = batchSize(calendarWrites.getFirst().getCalendarId());
+            for (int from = 0; from < calendarWrites.size(); from += batchSize) {
+                chunks.add(calendarWrites.subList(from, Math.min(from + batchSize, calendarWrites.size())));
+            }
+        }
+        return chunks;
+    }
+
+    private static void pause(Duration delay) {
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry actions", e);
+        }
+    }
+
+    /**
+     * Execute the chunks, concurrently if enabled, returning the results in chunk order.
+     */
+    private List<ActionResult> executeChunks(List<List<ReconciliationAction>> chunks) {
+        List<ActionResult> results = new ArrayList<>();
+        if (chunks.size() <= 1 || chunks.stream().allMatch(chunk -> parallelism(chunk.getFirst().getCalendarId()) <= 1)) {
+            for (List<ReconciliationAction> chunk : chunks) {
+                results.addAll(executeChunk(chunk));
+            }
+            return results;
+        }
+
+        Map<String, Semaphore> permits = new HashMap<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<List<ActionResult>>> futures = new ArrayList<>(chunks.size());
+            for (List<ReconciliationAction> chunk : chunks) {
+                Semaphore calendarPermits = permits.computeIfAbsent(chunk.getFirst().getCalendarId(),
+                        id -> new Semaphore(Math.max(1, parallelism(id))));
+                futures.add(executor.submit(() -> {
+                    calendarPermits.acquire();
+                    try {
+                        return executeChunk(chunk);
+                    } finally {
+                        calendarPermits.release();
+                    }
+                }));
+            }
+
+            for (Future<List<ActionResult>> future : futures) {
+                results.addAll(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while executing actions", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to execute actions", e.getCause());
+        }
+        return results;
+    }
+
+    private List<ActionResult> executeChunk(List<ReconciliationAction> chunk) {
+        if (chunk.size() > 1) {
+            return calendarService.executeBatch(chunk);
+        }
+        return List.of(executeOne(chunk.getFirst()));
+    }
+
+    private ActionResult executeOne(ReconciliationAction action) {
+        try {
+            switch (action.getType()) {
+                case CREATE -> calendarService.createEvent(action.getCalendarId(),
+                        EventUtils.toGoogleEvent(action.getLocalEvent()).setId(action.getEventId()));
+                case UPDATE -> calendarService.patchEvent(action.getCalendarId(), action.getEventId(),
+                        EventUtils.toGoogleEventPatch(action.getLocalEvent(), action.getChangedFields(),
+                                action.getRemoteEvent()));
+                case DELETE -> calendarService.deleteEvent(action.getCalendarId(), action.getEventId());
+                case WARN_ORPHAN -> {
+                    // Nothing to execute
+                }
+            }
+            return ActionResult.success(action);
+        } catch (GoogleJsonResponseException e) {
+            return ActionResult.failure(action, e.getStatusCode(), e.getMessage(),
+                    RetryPolicy.isRetryable(e.getStatusCode(), e.getDetails()), RetryPolicy.retryAfter(e.getHeaders()));
+        } catch (IOException e) {
+            // Timed out requests are retried, interrupted ones are not
+            return ActionResult.failure(action, 0, e.getMessage(), !Thread.currentThread().isInterrupted(), null);
+        } catch (Exception e) {
+            return ActionResult.failure(action, 0, e.getMessage());
+        }
+    }
+
+    private int batchSize(String calendarId) {
+        int batchSize = calendar(calendarId).flatMap(GoogleCalendarConfig.Calendar::batchSize).orElse(config.batchSize());
+        return Math.max(1, Math.min(batchSize, GoogleCalendarService.MAX_BATCH_SIZE));
+    }
+
+    private int parallelism(String calendarId) {
+        return calendar(calendarId).flatMap(GoogleCalendarConfig.Calendar::parallelism).orElse(config.parallelism());
+    }
+
+    /**
+     * The configuration of the calendar with the given ID, if it is a configured calendar.
+     */
+    private Optional<GoogleCalendarConfig.Calendar> calendar(String calendarId) {
+        return calendarConfig.calendars().values().stream()
+                .filter(calendar -> calendar.id().filter(calendarId::equals).isPresent())
+                .findFirst();
+    }
+
+    private static void log(ActionResult result) {
+        if (result.getAction().getType() == ReconciliationAction.ActionType.WARN_ORPHAN) {
+            Log.infof("⚠ %s", result.getAction().getDescription());
+        } else if (result.isSuccess()) {
+            Log.infof("  ✓ %s", result.getAction().getDescription());
+        } else {
+            Log.errorf("  ✗ %s failed: %s", result.getAction().getDescription(), result.getError());
+        }
+    }
+}
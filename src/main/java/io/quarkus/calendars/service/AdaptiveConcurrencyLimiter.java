@@ -0,0 +1,202 @@
+package io.quarkus.calendars.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limits the number of concurrent requests, adapting the limit to how the server copes (AIMD).
+ * <p>
+ * The limit grows additively, by about one per limit-worth of successful requests, while request latency
+ * stays close to its long-term average and the limit is actually used. It shrinks multiplicatively when a
+ * request is rejected by rate limiting, and slightly when latency more than doubles. Callers block in
+ * {@link #acquire()} while the limit is reached.
+ * <p>
+ * Latency is only compared between requests of the same kind, as a batch of writes or a large page of
+ * events takes longer than a single write without any congestion.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    /**
+     * Factor applied to the limit when a request is rate limited.
+     */
+    static final double RATE_LIMITED_BACKOFF = 0.5;
+
+    /**
+     * Factor applied to the limit when latency rises.
+     */
+    static final double LATENCY_BACKOFF = 0.9;
+
+    /**
+     * Latency above this multiple of the average is taken as a sign of congestion.
+     */
+    static final double LATENCY_TOLERANCE = 2.0;
+
+    /**
+     * Weight of each sample in the average latency.
+     */
+    private static final double SMOOTHING = 0.1;
+
+    private final int maxLimit;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+
+    private double limit;
+    private int inFlight;
+    private final Map<String, Double> averageLatencyNanosByKind = new HashMap<>();
+    private double averageLatencyNanos;
+    private long requests;
+    private long rejections;
+
+    /**
+     * @param initialLimit the number of concurrent requests allowed at first
+     * @param maxLimit     the largest limit the limiter grows to
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int maxLimit) {
+        if (initialLimit < 1 || maxLimit < initialLimit) {
+            throw new IllegalArgumentException("Invalid concurrency limits: initial " + initialLimit + ", max " + maxLimit);
+        }
+        this.limit = initialLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * Wait until a request may start. Every successful call must be followed by one of
+     * {@link #onSuccess(String, long)}, {@link #onRateLimited()} or {@link #onIgnore()}.
+     */
+    public void acquire() throws InterruptedException {
+        lock.lock();
+        try {
+            while (inFlight >= (int) limit) {
+                available.await();
+            }
+            inFlight++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Record a completed request and its latency.
+     *
+     * @param kind         the kind of request, such as its method and size; latency is compared with the
+     *                     average of the same kind only
+     * @param latencyNanos the time the request took
+     */
+    public void onSuccess(String kind, long latencyNanos) {
+        lock.lock();
+        try {
+            requests++;
+            double kindAverage = averageLatencyNanosByKind.getOrDefault(kind, (double) latencyNanos);
+            if (latencyNanos > kindAverage * LATENCY_TOLERANCE) {
+                limit = Math.max(1, limit * LATENCY_BACKOFF);
+            } else if (inFlight * 2 >= (int) limit) {
+                // Only grow a limit that is actually used
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+            averageLatencyNanosByKind.put(kind, kindAverage + (latencyNanos - kindAverage) * SMOOTHING);
+            if (averageLatencyNanos == 0) {
+                averageLatencyNanos = latencyNanos;
+            }
+            averageLatencyNanos += (latencyNanos - averageLatencyNanos) * SMOOTHING;
+            release();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Record a request rejected by rate limiting.
+     */
+    public void onRateLimited() {
+        lock.lock();
+        try {
+            requests++;
+            rejections++;
+            limit = Math.max(1, limit * RATE_LIMITED_BACKOFF);
+            release();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Record a request that failed for other reasons, without adapting the limit.
+     */
+    public void onIgnore() {
+        lock.lock();
+        try {
+            requests++;
+            release();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release() {
+        inFlight--;
+        available.signalAll();
+    }
+
+    /**
+     * The number of requests currently allowed to run concurrently.
+     */
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The number of requests currently running.
+     */
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The number of completed requests.
+     */
+    public long getRequests() {
+        lock.lock();
+        try {
+            return requests;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The number of requests rejected by rate limiting.
+     */
+    public long getRejections() {
+        lock.lock();
+        try {
+            return rejections;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The average request latency over all kinds of requests, in milliseconds.
+     */
+    public long getAverageLatencyMillis() {
+        lock.lock();
+        try {
+            return TimeUnit.NANOSECONDS.toMillis((long) averageLatencyNanos);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
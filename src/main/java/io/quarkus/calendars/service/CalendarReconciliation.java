@@ -1,24 +1,34 @@
 package io.quarkus.calendars.service;
 
-import com.google.api.services.calendar.model.EventDateTime;
 import io.quarkus.calendars.config.GoogleCalendarConfig;
 import io.quarkus.calendars.config.ReconciliationConfig;
-import io.quarkus.calendars.model.CallEvent;
-import io.quarkus.calendars.model.Event;
+import io.quarkus.calendars.model.EventField;
+import io.quarkus.calendars.model.EventKey;
+import io.quarkus.calendars.model.ImmutableEvent;
 import io.quarkus.calendars.model.ReconciliationAction;
-import io.quarkus.calendars.model.ReleaseEvent;
-import io.quarkus.calendars.util.Constants;
 import io.quarkus.calendars.util.EventUtils;
 import io.quarkus.logging.Log;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
+import java.io.IOException;
+import java.security.GeneralSecurityException;
 import java.time.LocalDate;
-import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
 /**
  * Service for reconciling local event files with Google Calendar events.
@@ -32,6 +42,11 @@ import java.util.Map;
 @ApplicationScoped
 public class CalendarReconciliation {
 
+    /**
+     * Remote pages listed ahead of the merge diff, bounding the remote events held while it catches up.
+     */
+    private static final int PAGES_AHEAD = 2;
+
     @Inject
     GoogleCalendarService calendarService;
 
@@ -47,8 +62,11 @@ public class CalendarReconciliation {
     @Inject
     EventComparator eventComparator;
 
+    @Inject
+    ActionExecutor actionExecutor;
+
     /**
-     * Perform full reconciliation for both calendars using configured date range.
+     * Perform full reconciliation for all configured calendars using their configured date ranges.
      * Returns the list of actions that were executed.
      */
     public List<ReconciliationAction> reconcile() {
@@ -56,38 +74,79 @@ public class CalendarReconciliation {
     }
 
     /**
-     * Perform full reconciliation for both calendars using configured date range.
+     * Perform full reconciliation for all configured calendars using their configured date ranges.
      * Returns the list of actions (analyzed or executed based on dryRun parameter).
      */
     public List<ReconciliationAction> reconcile(boolean dryRun) {
-        LocalDate startDate = LocalDate.now().minusMonths(reconciliationConfig.monthsBefore());
-        LocalDate endDate = LocalDate.now().plusMonths(reconciliationConfig.monthsAfter());
+        calendarService.resetRetryBudget();
+        List<ReconciliationAction> actions = reconcileAll(null, null, dryRun);
 
         if (!dryRun) {
-            Log.infof("Reconciling events from %s to %s", startDate, endDate);
+            logApiUsage();
         }
-
-        List<ReconciliationAction> actions = new ArrayList<>();
-        actions.addAll(reconcileReleases(startDate, endDate, dryRun));
-        actions.addAll(reconcileCalls(startDate, endDate, dryRun));
-
         return actions;
     }
 
     /**
-     * Perform full reconciliation for both calendars with custom date range.
+     * Perform full reconciliation for all configured calendars with custom date range.
      * Returns the list of actions that were executed.
      */
     public List<ReconciliationAction> reconcile(LocalDate startDate, LocalDate endDate) {
-        Log.infof("Reconciling events from %s to %s", startDate, endDate);
-
-        List<ReconciliationAction> actions = new ArrayList<>();
-        actions.addAll(reconcileReleases(startDate, endDate));
-        actions.addAll(reconcileCalls(startDate, endDate));
+        calendarService.resetRetryBudget();
+        List<ReconciliationAction> actions = reconcileAll(startDate, endDate, false);
 
+        logApiUsage();
         return actions;
     }
 
+    /**
+     * The names of the configured calendars, in the order their actions are returned.
+     */
+    public List<String> calendarNames() {
+        return config.calendarNames();
+    }
+
+    /**
+     * Reconcile all calendars concurrently, as they share no state.
+     * <p>
+     * If any reconciliation fails, the others are cancelled and the failure is rethrown. The actions are
+     * returned grouped by calendar, in the order of {@link #calendarNames()}.
+     *
+     * @param startDate the first day to reconcile, or {@code null} for the configured range of each calendar
+     * @param endDate   the last day to reconcile, or {@code null} for the configured range of each calendar
+     */
+    private List<ReconciliationAction> reconcileAll(LocalDate startDate, LocalDate endDate, boolean dryRun) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletionService<List<ReconciliationAction>> completion = new ExecutorCompletionService<>(executor);
+            List<Future<List<ReconciliationAction>>> futures = new ArrayList<>();
+            for (String name : calendarNames()) {
+                futures.add(completion.submit(() -> reconcileConfigured(name, startDate, endDate, dryRun)));
+            }
+
+            try {
+                for (int i = 0; i < futures.size(); i++) {
+                    completion.take().get();
+                }
+            } catch (InterruptedException | ExecutionException e) {
+                futures.forEach(future -> future.cancel(true));
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while reconciling", e);
+                }
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new IllegalStateException("Failed to reconcile", e.getCause());
+            }
+
+            List<ReconciliationAction> actions = new ArrayList<>();
+            for (Future<List<ReconciliationAction>> future : futures) {
+                actions.addAll(future.resultNow());
+            }
+            return actions;
+        }
+    }
+
     /**
      * Reconcile release events.
      */
@@ -99,10 +158,7 @@ public class CalendarReconciliation {
      * Reconcile release events with optional dry-run mode.
      */
     public List<ReconciliationAction> reconcileReleases(LocalDate startDate, LocalDate endDate, boolean dryRun) {
-        String calendarId = config.calendars().releases().id()
-            .orElseThrow(() -> new IllegalStateException("Releases calendar ID not configured"));
-        List<ReleaseEvent> localEvents = localEventLoader.loadReleaseEvents(startDate, endDate);
-        return reconcileCalendar(localEvents, calendarId, startDate, endDate, dryRun, "releases");
+        return reconcileCalendar("releases", startDate, endDate, dryRun);
     }
 
     /**
@@ -116,45 +172,249 @@ public class CalendarReconciliation {
      * Reconcile call events with optional dry-run mode.
      */
     public List<ReconciliationAction> reconcileCalls(LocalDate startDate, LocalDate endDate, boolean dryRun) {
-        String calendarId = config.calendars().calls().id()
-            .orElseThrow(() -> new IllegalStateException("Calls calendar ID not configured"));
-        List<CallEvent> localEvents = localEventLoader.loadCallEvents(startDate, endDate);
-        return reconcileCalendar(localEvents, calendarId, startDate, endDate, dryRun, "calls");
+        return reconcileCalendar("calls", startDate, endDate, dryRun);
+    }
+
+    /**
+     * Reconcile a configured calendar over its configured date range, which defaults to the range of
+     * {@code reconciliation}.
+     */
+    public List<ReconciliationAction> reconcileCalendar(String name, boolean dryRun) {
+        calendarService.resetRetryBudget();
+        return reconcileConfigured(name, null, null, dryRun);
+    }
+
+    /**
+     * Reconcile a configured calendar over the given date range, with optional dry-run mode.
+     */
+    public List<ReconciliationAction> reconcileCalendar(String name, LocalDate startDate, LocalDate endDate,
+                                                        boolean dryRun) {
+        calendarService.resetRetryBudget();
+        return reconcileConfigured(name, startDate, endDate, dryRun);
+    }
+
+    /**
+     * Reconcile a configured calendar within the retry budget of the current run.
+     *
+     * @param startDate the first day to reconcile, or {@code null} for the configured range of the calendar
+     * @param endDate   the last day to reconcile, or {@code null} for the configured range of the calendar
+     */
+    private List<ReconciliationAction> reconcileConfigured(String name, LocalDate startDate, LocalDate endDate,
+                                                           boolean dryRun) {
+        GoogleCalendarConfig.Calendar calendar = calendar(name);
+        if (startDate == null || endDate == null) {
+            LocalDate today = LocalDate.now();
+            startDate = today.minusMonths(calendar.monthsBefore().orElse(reconciliationConfig.monthsBefore()));
+            endDate = today.plusMonths(calendar.monthsAfter().orElse(reconciliationConfig.monthsAfter()));
+        }
+        String calendarId = calendar.id()
+            .orElseThrow(() -> new IllegalStateException("Calendar ID of " + name + " not configured"));
+        if (!dryRun) {
+            Log.infof("Reconciling %s events from %s to %s", name, startDate, endDate);
+        }
+        return reconcileCalendar(calendar.kind(), calendar.sourceDirectory(), calendarId, startDate, endDate, dryRun,
+            name);
+    }
+
+    private GoogleCalendarConfig.Calendar calendar(String name) {
+        GoogleCalendarConfig.Calendar calendar = config.calendars().get(name);
+        if (calendar == null) {
+            throw new IllegalArgumentException("Unknown calendar " + name + ", configured: " + calendarNames());
+        }
+        return calendar;
     }
 
     /**
      * Common reconciliation logic for any calendar.
+     * <p>
+     * The remote events, including the client setup on first use, are fetched on a virtual thread while the
+     * local events are loaded, so that network and disk work overlap.
+     */
+    private List<ReconciliationAction> reconcileCalendar(
+            ImmutableEvent.Kind kind,
+            String directory,
+            String calendarId,
+            LocalDate startDate,
+            LocalDate endDate,
+            boolean dryRun,
+            String calendarType) {
+        if (reconciliationConfig.diffEngine() == ReconciliationConfig.DiffEngine.MERGE) {
+            return reconcileByDay(kind, directory, calendarId, startDate, endDate, dryRun, calendarType);
+        }
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<List<com.google.api.services.calendar.model.Event>> remoteFetch =
+                executor.submit(() -> fetchRemoteEvents(calendarId, startDate, endDate));
+
+            List<ImmutableEvent> localEvents;
+            try {
+                localEvents = localEventLoader.loadEvents(directory, kind, startDate, endDate);
+            } catch (RuntimeException e) {
+                remoteFetch.cancel(true);
+                throw e;
+            }
+
+            try {
+                List<com.google.api.services.calendar.model.Event> remoteEvents = remoteFetch.get();
+
+                // Synced events reach beyond the range and listed events are widened by a day for time zones,
+                // keep the exact date range
+                return reconcile(localEvents, inDateRange(remoteEvents, startDate, endDate), calendarId, dryRun);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while reconciling " + calendarType, e);
+            } catch (ExecutionException e) {
+                throw new RuntimeException("Failed to reconcile " + calendarType, e.getCause());
+            } catch (Exception e) {
+                throw new RuntimeException("Failed to reconcile " + calendarType, e);
+            }
+        }
+    }
+
+    /**
+     * Reconcile a calendar with the merge diff, as the remote events are listed.
+     * <p>
+     * The remote pages are listed on a virtual thread, at most {@link #PAGES_AHEAD} pages ahead of the
+     * diff, while the local events are loaded. The actions of each closed day are collected, and unless in
+     * dry-run mode executed once the listing is complete, so that a failed listing applies no changes.
      */
-    private <T extends Event> List<ReconciliationAction> reconcileCalendar(
-            List<T> localEvents,
+    private List<ReconciliationAction> reconcileByDay(
+            ImmutableEvent.Kind kind,
+            String directory,
             String calendarId,
             LocalDate startDate,
             LocalDate endDate,
             boolean dryRun,
             String calendarType) {
+        BlockingQueue<RemotePage> pages = new ArrayBlockingQueue<>(PAGES_AHEAD);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<?> remoteFetch = executor.submit(() -> {
+                RemotePage last = RemotePage.END;
+                try {
+                    streamRemoteEvents(calendarId, startDate, endDate, page -> handOver(pages, new RemotePage(page, null)));
+                } catch (Throwable e) {
+                    last = new RemotePage(null, e);
+                } finally {
+                    handOverLast(pages, last);
+                }
+            });
+
+            List<ImmutableEvent> localEvents;
+            try {
+                localEvents = localEventLoader.loadEvents(directory, kind, startDate, endDate);
+            } catch (RuntimeException e) {
+                remoteFetch.cancel(true);
+                throw e;
+            }
+
+            try {
+                List<ReconciliationAction> plan = new ArrayList<>();
+                MergeDiff merge = new MergeDiff(localEvents, startDate, endDate,
+                    (day, dayLocals, dayRemotes) -> analyzeByKey(dayLocals, dayRemotes, dayKeys(day, dayRemotes), calendarId),
+                    plan::addAll);
+
+                for (RemotePage page = pages.take(); page != RemotePage.END; page = pages.take()) {
+                    if (page.failure() != null) {
+                        throw new ExecutionException(page.failure());
+                    }
+                    merge.accept(page.events());
+                }
+                merge.finish();
+
+                if (!dryRun) {
+                    execute(plan, calendarId);
+                }
+                return plan;
+            } catch (InterruptedException e) {
+                remoteFetch.cancel(true);
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while reconciling " + calendarType, e);
+            } catch (ExecutionException e) {
+                throw new RuntimeException("Failed to reconcile " + calendarType, e.getCause());
+            } catch (RuntimeException e) {
+                remoteFetch.cancel(true);
+                throw new RuntimeException("Failed to reconcile " + calendarType, e);
+            }
+        }
+    }
+
+    /**
+     * List the remote events to reconcile against, page by page in start time order. Synced events come
+     * from the local mirror, and are handed over as a single page, reaching beyond the range.
+     */
+    private void streamRemoteEvents(
+            String calendarId,
+            LocalDate startDate,
+            LocalDate endDate,
+            Consumer<List<com.google.api.services.calendar.model.Event>> pages)
+            throws GeneralSecurityException, IOException {
+        if (config.sync().enabled()) {
+            pages.accept(fetchRemoteEvents(calendarId, startDate, endDate));
+        } else if (!reconciliationConfig.managedOnly() || reconciliationConfig.warnOrphans()) {
+            calendarService.listEvents(calendarId, startDate, endDate, pages);
+        } else {
+            calendarService.listManagedEvents(calendarId, startDate, endDate, pages);
+        }
+    }
+
+    private static void handOver(BlockingQueue<RemotePage> pages, RemotePage page) {
         try {
-            List<com.google.api.services.calendar.model.Event> remoteEvents =
-                calendarService.listEvents(calendarId, 100);
+            pages.put(page);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while handing over remote events", e);
+        }
+    }
 
-            // Filter remote events by date range
-            remoteEvents = filterByDateRange(remoteEvents, startDate, endDate);
+    /**
+     * Hand over the end or failure of the listing. Once the listing is interrupted, the reconciliation
+     * cancelled it and no longer takes pages, so the marker is dropped.
+     */
+    private static void handOverLast(BlockingQueue<RemotePage> pages, RemotePage last) {
+        try {
+            pages.put(last);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 
-            return reconcile(localEvents, remoteEvents, calendarId, dryRun);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to reconcile " + calendarType, e);
+    /**
+     * A page of remote events handed over to the merge diff, or the failure of the listing.
+     * {@link #END} marks the end of the listing.
+     */
+    private record RemotePage(List<com.google.api.services.calendar.model.Event> events, Throwable failure) {
+
+        static final RemotePage END = new RemotePage(List.of(), null);
+    }
+
+    /**
+     * The keys of remote events all starting on the given day.
+     */
+    private static List<EventKey> dayKeys(long epochDay, List<com.google.api.services.calendar.model.Event> events) {
+        List<EventKey> keys = new ArrayList<>(events.size());
+        for (com.google.api.services.calendar.model.Event event : events) {
+            keys.add(EventKey.of(event.getSummary(), epochDay));
         }
+        return keys;
     }
 
     /**
-     * Reconcile local and remote events.
-     * Phase 1: Analysis - determine what actions need to be performed
-     * Phase 2: Execution - execute the actions
+     * Fetch the remote events to reconcile against.
+     * <p>
+     * In managed-only mode the server only returns the events we created. Orphan warnings need the events
+     * created by others too, so the whole range is then listed once, as without managed-only mode; those
+     * events are still matched against local events, so they are taken over instead of duplicated.
      */
-    private <T extends Event> List<ReconciliationAction> reconcile(
-            List<T> localEvents,
-            List<com.google.api.services.calendar.model.Event> remoteEvents,
-            String calendarId) {
-        return reconcile(localEvents, remoteEvents, calendarId, false);
+    private List<com.google.api.services.calendar.model.Event> fetchRemoteEvents(
+            String calendarId,
+            LocalDate startDate,
+            LocalDate endDate) throws GeneralSecurityException, IOException {
+        if (config.sync().enabled()) {
+            return calendarService.syncEvents(calendarId, startDate);
+        }
+        if (!reconciliationConfig.managedOnly() || reconciliationConfig.warnOrphans()) {
+            return calendarService.listEvents(calendarId, startDate, endDate);
+        }
+        return calendarService.listManagedEvents(calendarId, startDate, endDate);
     }
 
     /**
@@ -162,53 +422,65 @@ public class CalendarReconciliation {
      * Phase 1: Analysis - determine what actions need to be performed
      * Phase 2: Execution - execute the actions (skipped in dry-run mode)
      */
-    private <T extends Event> List<ReconciliationAction> reconcile(
-            List<T> localEvents,
-            List<com.google.api.services.calendar.model.Event> remoteEvents,
+    private List<ReconciliationAction> reconcile(
+            List<ImmutableEvent> localEvents,
+            RemoteEvents remoteEvents,
             String calendarId,
             boolean dryRun) {
 
         // Phase 1: Analysis
-        List<ReconciliationAction> actions = analyzeReconciliation(localEvents, remoteEvents, calendarId);
+        List<ReconciliationAction> actions =
+            analyzeByKey(localEvents, remoteEvents.events(), remoteEvents.keys(), calendarId);
 
         if (!dryRun) {
-            Log.info("\n=== Reconciliation Analysis ===");
-            Log.infof("Found %d action(s) to perform:", actions.size());
-            for (ReconciliationAction action : actions) {
-                Log.infof("  - %s", action);
-            }
-
-            // Phase 2: Execution
-            Log.info("\n=== Executing Actions ===");
-            executeActions(actions);
+            execute(actions, calendarId);
         }
 
         return actions;
     }
 
     /**
-     * Phase 1: Analyze differences between local and remote events.
+     * Phase 2: Log the analyzed actions, then execute them.
      */
-    private <T extends Event> List<ReconciliationAction> analyzeReconciliation(
-            List<T> localEvents,
+    private void execute(List<ReconciliationAction> actions, String calendarId) {
+        // A single message, so that the analyses of calendars reconciled concurrently do not interleave
+        StringBuilder analysis = new StringBuilder("\n=== Reconciliation Analysis ===\n")
+            .append("Found ").append(actions.size()).append(" action(s) to perform in ").append(calendarId).append(':');
+        for (ReconciliationAction action : actions) {
+            analysis.append("\n  - ").append(action);
+        }
+        Log.info(analysis);
+
+        Log.info("\n=== Executing Actions ===");
+        actionExecutor.execute(actions);
+    }
+
+    /**
+     * Phase 1, hash diff: match local and remote events on their keys through a map of the remote events.
+     *
+     * @param remoteKeys the key of each remote event, in the same order
+     */
+    private List<ReconciliationAction> analyzeByKey(
+            List<ImmutableEvent> localEvents,
             List<com.google.api.services.calendar.model.Event> remoteEvents,
+            List<EventKey> remoteKeys,
             String calendarId) {
 
         List<ReconciliationAction> actions = new ArrayList<>();
 
-        // Build a map of remote events by title+date for quick lookup
-        Map<String, com.google.api.services.calendar.model.Event> remoteEventMap = new HashMap<>();
-        for (com.google.api.services.calendar.model.Event remoteEvent : remoteEvents) {
-            String key = getEventKey(remoteEvent);
-            remoteEventMap.put(key, remoteEvent);
+        // Map remote events by title+date for quick lookup
+        Map<EventKey, com.google.api.services.calendar.model.Event> remoteEventMap =
+            HashMap.newHashMap(remoteEvents.size());
+        for (int i = 0; i < remoteEvents.size(); i++) {
+            remoteEventMap.put(remoteKeys.get(i), remoteEvents.get(i));
         }
 
         // Track which remote events we've matched
-        Map<String, Boolean> matchedRemoteEvents = new HashMap<>();
+        Set<EventKey> matchedRemoteEvents = HashSet.newHashSet(Math.min(localEvents.size(), remoteEvents.size()));
 
         // Check each local event
-        for (T localEvent : localEvents) {
-            String key = getEventKey(localEvent);
+        for (ImmutableEvent localEvent : localEvents) {
+            EventKey key = localEvent.getKey();
             com.google.api.services.calendar.model.Event remoteEvent = remoteEventMap.get(key);
 
             if (remoteEvent == null) {
@@ -216,24 +488,25 @@ public class CalendarReconciliation {
                 actions.add(ReconciliationAction.create(localEvent, calendarId));
             } else {
                 // Existing event - check if it needs update
-                matchedRemoteEvents.put(key, true);
+                matchedRemoteEvents.add(key);
 
-                if (eventComparator.needsUpdate(localEvent, remoteEvent)) {
-                    actions.add(ReconciliationAction.update(localEvent, remoteEvent, calendarId));
+                Set<EventField> changedFields = eventComparator.differences(localEvent, remoteEvent);
+                if (!changedFields.isEmpty()) {
+                    actions.add(ReconciliationAction.update(localEvent, remoteEvent, calendarId, changedFields));
                 }
             }
         }
 
         // Check for remote events without local files
-        for (com.google.api.services.calendar.model.Event remoteEvent : remoteEvents) {
-            String key = getEventKey(remoteEvent);
+        for (int i = 0; i < remoteEvents.size(); i++) {
+            com.google.api.services.calendar.model.Event remoteEvent = remoteEvents.get(i);
 
-            if (!matchedRemoteEvents.containsKey(key)) {
+            if (!matchedRemoteEvents.contains(remoteKeys.get(i))) {
                 // Remote event without local file
-                if (isManagedByUs(remoteEvent)) {
+                if (EventUtils.isManagedByUs(remoteEvent)) {
                     // Delete events we created but no longer have a local file for
                     actions.add(ReconciliationAction.delete(remoteEvent, calendarId));
-                } else {
+                } else if (reconciliationConfig.warnOrphans()) {
                     // Warn about external events (created manually or by another tool)
                     actions.add(ReconciliationAction.warnOrphan(remoteEvent, calendarId));
                 }
@@ -244,160 +517,38 @@ public class CalendarReconciliation {
     }
 
     /**
-     * Check if a remote event was created and is managed by this tool.
-     */
-    private boolean isManagedByUs(com.google.api.services.calendar.model.Event event) {
-        if (event.getExtendedProperties() == null) {
-            return false;
-        }
-
-        var privateProps = event.getExtendedProperties().getPrivate();
-        if (privateProps == null) {
-            return false;
-        }
-
-        return Constants.MANAGED_BY_VALUE.equals(privateProps.get(Constants.MANAGED_BY_PROPERTY));
-    }
-
-    /**
-     * Phase 2: Execute the reconciliation actions.
-     */
-    private void executeActions(List<ReconciliationAction> actions) {
-        for (ReconciliationAction action : actions) {
-            try {
-                switch (action.getType()) {
-                    case CREATE -> {
-                        Log.infof("Creating: %s", action.getDescription());
-                        com.google.api.services.calendar.model.Event googleEvent =
-                            convertToGoogleEvent(action.getLocalEvent());
-                        calendarService.createEvent(action.getCalendarId(), googleEvent);
-                        Log.info("  ✓ Created successfully");
-                    }
-                    case UPDATE -> {
-                        Log.infof("Updating: %s", action.getDescription());
-                        com.google.api.services.calendar.model.Event googleEvent =
-                            convertToGoogleEvent(action.getLocalEvent());
-                        calendarService.updateEvent(
-                            action.getCalendarId(),
-                            action.getRemoteEvent().getId(),
-                            googleEvent
-                        );
-                        Log.info("  ✓ Updated successfully");
-                    }
-                    case DELETE -> {
-                        Log.infof("Deleting: %s", action.getDescription());
-                        calendarService.deleteEvent(
-                            action.getCalendarId(),
-                            action.getRemoteEvent().getId()
-                        );
-                        Log.info("  ✓ Deleted successfully");
-                    }
-                    case WARN_ORPHAN -> {
-                        Log.infof("⚠ %s", action.getDescription());
-                    }
-                }
-            } catch (Exception e) {
-                Log.errorf("  ✗ Failed to execute action: %s", e.getMessage());
-            }
-        }
-    }
-
-    /**
-     * Create a unique key for an event based on title and date.
+     * Log how the Google Calendar API coped with the requests of this run.
      */
-    private String getEventKey(Event event) {
-        return event.getTitle() + "|" + event.getDate();
+    private void logApiUsage() {
+        AdaptiveConcurrencyLimiter limiter = calendarService.getConcurrencyLimiter();
+        Log.infof("Google Calendar API: %d request(s), %d rate limited, concurrency limit %d, average latency %d ms",
+            limiter.getRequests(), limiter.getRejections(), limiter.getLimit(), limiter.getAverageLatencyMillis());
     }
 
     /**
-     * Create a unique key for a Google Calendar event based on title and date.
+     * Remote events within a date range, with their keys in the same order.
      */
-    private String getEventKey(com.google.api.services.calendar.model.Event event) {
-        String title = event.getSummary();
-        LocalDate date = EventUtils.extractDate(event);
-        return title + "|" + date;
+    private record RemoteEvents(List<com.google.api.services.calendar.model.Event> events, List<EventKey> keys) {
     }
 
     /**
-     * Filter remote events by date range.
+     * Keep the remote events within the date range, in a single pass reading the date of each event once.
      */
-    private List<com.google.api.services.calendar.model.Event> filterByDateRange(
+    private static RemoteEvents inDateRange(
             List<com.google.api.services.calendar.model.Event> events,
             LocalDate startDate,
             LocalDate endDate) {
-
-        return events.stream()
-            .filter(event -> {
-                LocalDate date = EventUtils.extractDate(event);
-                return !date.isBefore(startDate) && !date.isAfter(endDate);
-            })
-            .toList();
-    }
-
-    /**
-     * Convert local Event to Google Calendar Event.
-     */
-    private com.google.api.services.calendar.model.Event convertToGoogleEvent(Event localEvent) {
-        com.google.api.services.calendar.model.Event googleEvent =
-            new com.google.api.services.calendar.model.Event();
-
-        googleEvent.setSummary(localEvent.getTitle());
-        googleEvent.setDescription(localEvent.getDescription());
-
-        // Mark event as managed by this tool using extended properties
-        com.google.api.services.calendar.model.Event.ExtendedProperties extendedProperties =
-            new com.google.api.services.calendar.model.Event.ExtendedProperties();
-        extendedProperties.setPrivate(java.util.Map.of(Constants.MANAGED_BY_PROPERTY, Constants.MANAGED_BY_VALUE));
-        googleEvent.setExtendedProperties(extendedProperties);
-
-        if (localEvent instanceof ReleaseEvent) {
-            // All-day event
-            EventDateTime start = new EventDateTime();
-            start.setDate(new com.google.api.client.util.DateTime(
-                localEvent.getDate().toString()
-            ));
-            googleEvent.setStart(start);
-
-            EventDateTime end = new EventDateTime();
-            end.setDate(new com.google.api.client.util.DateTime(
-                localEvent.getDate().toString()
-            ));
-            googleEvent.setEnd(end);
-
-        } else if (localEvent instanceof CallEvent callEvent) {
-            // Timed event
-            ZonedDateTime startTime = ZonedDateTime.of(
-                callEvent.getDate(),
-                callEvent.getTime(),
-                Constants.UTC
-            );
-
-            EventDateTime start = new EventDateTime();
-            start.setDateTime(new com.google.api.client.util.DateTime(
-                startTime.toInstant().toEpochMilli()
-            ));
-            start.setTimeZone("UTC");
-            googleEvent.setStart(start);
-
-            ZonedDateTime endTime = startTime.plus(callEvent.getDuration());
-            EventDateTime end = new EventDateTime();
-            end.setDateTime(new com.google.api.client.util.DateTime(
-                endTime.toInstant().toEpochMilli()
-            ));
-            end.setTimeZone("UTC");
-            googleEvent.setEnd(end);
-
-            // Add call link to description or location
-            if (callEvent.getCallLink() != null) {
-                String description = googleEvent.getDescription();
-                if (description == null) {
-                    description = "";
-                }
-                description += "\n\nJoin: " + callEvent.getCallLink();
-                googleEvent.setDescription(description);
+        long startDay = startDate.toEpochDay();
+        long endDay = endDate.toEpochDay();
+        List<com.google.api.services.calendar.model.Event> inRange = new ArrayList<>(events.size());
+        List<EventKey> keys = new ArrayList<>(events.size());
+        for (com.google.api.services.calendar.model.Event event : events) {
+            long day = EventUtils.extractDate(event).toEpochDay();
+            if (day >= startDay && day <= endDay) {
+                inRange.add(event);
+                keys.add(EventKey.of(event.getSummary(), day));
             }
         }
-
-        return googleEvent;
+        return new RemoteEvents(inRange, keys);
     }
 }
@@ -0,0 +1,143 @@
+package io.quarkus.calendars.service;
+
+import io.quarkus.calendars.model.ImmutableEvent;
+import io.quarkus.logging.Log;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Validated events embedded in the application at build time, sorted by date per event directory.
+ * <p>
+ * The bundle is written by {@link EventBundleGenerator} during the Maven build and read from the class path,
+ * so loading events needs neither file system access nor YAML parsing. Events are indexed in an
+ * {@link EventStore} per directory and kind. Directories are identified by the path used to configure
+ * them, e.g. {@code quarkus-releases}.
+ */
+public final class EventBundle {
+
+    /**
+     * Class path location of the bundle.
+     */
+    public static final String RESOURCE = "META-INF/quarkus-calendars/events.bin";
+
+    private static final int MAGIC = 0x51434542; // "QCEB"
+    private static final int VERSION = 1;
+
+    private final Map<String, Map<ImmutableEvent.Kind, EventStore<ImmutableEvent>>> directories;
+
+    EventBundle(Map<String, Map<ImmutableEvent.Kind, EventStore<ImmutableEvent>>> directories) {
+        this.directories = directories;
+    }
+
+    /**
+     * Load the bundle embedded in the application.
+     *
+     * @return the bundle, or {@code null} if the application was built without one or it cannot be read
+     */
+    public static EventBundle load() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        try (InputStream in = classLoader.getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                return null;
+            }
+            return read(in);
+        } catch (IOException e) {
+            Log.warnf(e, "Ignoring unreadable event bundle %s", RESOURCE);
+            return null;
+        }
+    }
+
+    /**
+     * Whether the bundle holds the events of a directory.
+     */
+    public boolean contains(String directory) {
+        return directories.containsKey(key(directory));
+    }
+
+    /**
+     * Get the bundled events of the given kind from a directory, sorted by date.
+     * If both bounds are set, only events within the range are returned.
+     *
+     * @return the events, or {@code null} if the directory is not bundled
+     */
+    public List<ImmutableEvent> events(String directory, ImmutableEvent.Kind kind,
+                                       LocalDate startDate, LocalDate endDate) {
+        Map<ImmutableEvent.Kind, EventStore<ImmutableEvent>> stores = directories.get(key(directory));
+        if (stores == null) {
+            return null;
+        }
+        EventStore<ImmutableEvent> store = stores.get(kind);
+        if (store == null) {
+            return List.of();
+        }
+        return startDate != null && endDate != null ? store.window(startDate, endDate) : store.all();
+    }
+
+    /**
+     * Write a bundle, sorting the events of each directory by date.
+     *
+     * @param output      the bundle file
+     * @param directories the validated events per directory
+     */
+    public static void write(Path output, Map<String, List<ImmutableEvent>> directories) throws IOException {
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(output)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(directories.size());
+            for (Map.Entry<String, List<ImmutableEvent>> directory : directories.entrySet()) {
+                List<ImmutableEvent> events = directory.getValue().stream()
+                        .sorted(Comparator.comparingLong(ImmutableEvent::getEpochDay))
+                        .toList();
+                out.writeUTF(key(directory.getKey()));
+                out.writeInt(events.size());
+                for (ImmutableEvent event : events) {
+                    EventCodec.write(out, event);
+                }
+            }
+        }
+    }
+
+    static EventBundle read(InputStream input) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(input));
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            throw new IOException("Unknown event bundle format");
+        }
+        int directoryCount = in.readInt();
+        Map<String, Map<ImmutableEvent.Kind, EventStore<ImmutableEvent>>> directories = new HashMap<>();
+        for (int i = 0; i < directoryCount; i++) {
+            String directory = in.readUTF();
+            int count = in.readInt();
+            Map<ImmutableEvent.Kind, List<ImmutableEvent>> events = new EnumMap<>(ImmutableEvent.Kind.class);
+            for (int j = 0; j < count; j++) {
+                ImmutableEvent event = EventCodec.read(in);
+                events.computeIfAbsent(event.getKind(), kind -> new ArrayList<>()).add(event);
+            }
+            Map<ImmutableEvent.Kind, EventStore<ImmutableEvent>> stores = new EnumMap<>(ImmutableEvent.Kind.class);
+            events.forEach((kind, list) -> stores.put(kind, EventStore.of(list)));
+            directories.put(directory, stores);
+        }
+        return new EventBundle(directories);
+    }
+
+    private static String key(String directory) {
+        return Paths.get(directory).normalize().toString();
+    }
+}
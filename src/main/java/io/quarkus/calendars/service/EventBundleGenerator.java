@@ -0,0 +1,83 @@
+package io.quarkus.calendars.service;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.quarkus.calendars.config.EventReaders;
+import io.quarkus.calendars.config.JacksonConfiguration;
+import io.quarkus.calendars.model.Event;
+import io.quarkus.calendars.model.ImmutableEvent;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Build-time entry point writing the {@link EventBundle}, run by the Maven build after compilation.
+ * <p>
+ * Usage: {@code EventBundleGenerator <output> <base directory> <event directory>...}
+ * <p>
+ * Files that cannot be parsed or fail validation are reported and left out, as when loading events at
+ * runtime; use the {@code check-format} command to fail on them. This runs outside of Quarkus, so it
+ * reports to the standard streams instead of the application log.
+ */
+public final class EventBundleGenerator {
+
+    private EventBundleGenerator() {
+        // Entry point only
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Usage: EventBundleGenerator <output> <base directory> <event directory>...");
+        }
+        Path output = Paths.get(args[0]);
+        Path baseDirectory = Paths.get(args[1]);
+        ObjectReader reader = new EventReaders(JacksonConfiguration.createYamlMapper(false)).event();
+
+        Map<String, List<ImmutableEvent>> directories = new LinkedHashMap<>();
+        for (int i = 2; i < args.length; i++) {
+            Path directory = baseDirectory.resolve(args[i]);
+            if (!Files.isDirectory(directory)) {
+                System.out.printf("No event directory %s, not bundled%n", directory);
+                continue;
+            }
+            List<ImmutableEvent> events = load(directory, reader);
+            directories.put(args[i], events);
+            System.out.printf("Bundled %d events from %s%n", events.size(), directory);
+        }
+
+        EventBundle.write(output, directories);
+    }
+
+    private static List<ImmutableEvent> load(Path directory, ObjectReader reader) throws IOException {
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(directory)) {
+            files = paths
+                    .filter(Files::isRegularFile)
+                    .filter(path -> path.toString().endsWith(".yaml") || path.toString().endsWith(".yml"))
+                    .sorted()
+                    .toList();
+        }
+
+        List<ImmutableEvent> events = new ArrayList<>(files.size());
+        for (Path file : files) {
+            try {
+                byte[] content = Files.readAllBytes(file);
+                Event event = EventYamlScanner.scan(content);
+                if (event == null) {
+                    event = reader.readValue(content);
+                }
+                event.validate();
+                events.add(ImmutableEvent.of(event));
+            } catch (IOException | IllegalArgumentException e) {
+                System.err.printf("Skipping %s: %s%n", file, e.getMessage());
+            }
+        }
+        return events;
+    }
+}
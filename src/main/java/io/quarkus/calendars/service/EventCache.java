@@ -0,0 +1,251 @@
+package io.quarkus.calendars.service;
+
+import io.quarkus.calendars.model.ImmutableEvent;
+import io.quarkus.logging.Log;
+import org.eclipse.microprofile.config.ConfigProvider;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * On-disk cache of parsed and validated events, one binary snapshot file per event directory.
+ * <p>
+ * Entries are keyed by file path and checked against the file size and modification time. When those
+ * differ (e.g. after a fresh checkout), the SHA-256 of the file content decides whether the entry can
+ * still be used. Unreadable or outdated cache files are ignored, so the cache can be deleted at any time.
+ * <p>
+ * A snapshot also records the version of the parsing and validation rules it was written under, made of
+ * {@link #RULES_VERSION} and the application version. Snapshots of other rules are dropped as a whole, so
+ * that a file accepted by older rules is validated again.
+ */
+public class EventCache {
+
+    private static final int MAGIC = 0x51434543; // "QCEC"
+    private static final int VERSION = 2;
+
+    /**
+     * Version of the rules turning a file into a cached event. Bump it whenever parsing or validation changes
+     * in a way that the application version does not reflect, e.g. between snapshot builds.
+     */
+    static final int RULES_VERSION = 1;
+
+    /**
+     * Files modified this recently may be modified again without a visible timestamp change,
+     * so their entries are always verified against the content hash.
+     */
+    private static final long RACY_WINDOW_MICROS = 2_000_000;
+    static final long UNTRUSTED = -1;
+
+    private final Path cacheFile;
+    private final String rules;
+    private final Map<String, Entry> entries;
+    private volatile boolean dirty;
+
+    private EventCache(Path cacheFile, String rules, Map<String, Entry> entries) {
+        this.cacheFile = cacheFile;
+        this.rules = rules;
+        this.entries = entries;
+    }
+
+    /**
+     * Open the cache for the given event directory, reading any existing snapshot.
+     *
+     * @param cacheDirectory the directory holding the cache files
+     * @param eventDirectory the event directory the cache is for
+     * @return the cache, empty if no usable snapshot exists
+     */
+    public static EventCache open(Path cacheDirectory, Path eventDirectory) {
+        return open(cacheDirectory, eventDirectory, rulesVersion());
+    }
+
+    /**
+     * Open the cache for the given event directory, reading any existing snapshot written under the given rules.
+     *
+     * @param rules the version of the parsing and validation rules
+     */
+    static EventCache open(Path cacheDirectory, Path eventDirectory, String rules) {
+        String name = eventDirectory.normalize().toString().replaceAll("[^A-Za-z0-9._-]", "_");
+        Path cacheFile = cacheDirectory.resolve(name + ".bin");
+        return new EventCache(cacheFile, rules, read(cacheFile, rules));
+    }
+
+    /**
+     * The version of the current parsing and validation rules: {@link #RULES_VERSION} and the application version.
+     */
+    static String rulesVersion() {
+        String applicationVersion;
+        try {
+            applicationVersion = ConfigProvider.getConfig()
+                    .getOptionalValue("quarkus.application.version", String.class)
+                    .orElse("unknown");
+        } catch (IllegalStateException e) {
+            applicationVersion = "unknown";
+        }
+        return RULES_VERSION + "/" + applicationVersion;
+    }
+
+    /**
+     * Look up an event by file path, size and modification time (in microseconds).
+     *
+     * @return the cached event, or {@code null} if the entry is missing or stale
+     */
+    public ImmutableEvent get(Path file, long size, long lastModified) {
+        Entry entry = entries.get(file.toString());
+        if (entry == null || entry.size != size || entry.lastModified == UNTRUSTED || entry.lastModified != lastModified) {
+            return null;
+        }
+        return entry.event();
+    }
+
+    /**
+     * Look up an event by file path and content hash, refreshing the recorded size and modification time on a hit.
+     *
+     * @return the cached event, or {@code null} if the content changed
+     */
+    public ImmutableEvent get(Path file, long size, long lastModified, byte[] hash) {
+        String key = file.toString();
+        Entry entry = entries.get(key);
+        if (entry == null || entry.size != size || !Arrays.equals(entry.hash, hash)) {
+            return null;
+        }
+        long trusted = trustedModificationTime(lastModified);
+        if (entry.lastModified != trusted) {
+            entries.put(key, entry.withLastModified(trusted));
+            dirty = true;
+        }
+        return entry.event();
+    }
+
+    /**
+     * Record a parsed and validated event.
+     */
+    public void put(Path file, long size, long lastModified, byte[] hash, ImmutableEvent event) {
+        entries.put(file.toString(), new Entry(size, trustedModificationTime(lastModified), hash, event));
+        dirty = true;
+    }
+
+    /**
+     * Drop the entries of files that are no longer present.
+     */
+    public void retainAll(Collection<Path> files) {
+        Set<String> keys = files.stream().map(Path::toString).collect(Collectors.toSet());
+        if (entries.keySet().retainAll(keys)) {
+            dirty = true;
+        }
+    }
+
+    /**
+     * Write the snapshot if it changed. Failures are logged and otherwise ignored.
+     * <p>
+     * Entries may be put while saving: the change flag is cleared before the snapshot is taken, so that a
+     * put missed by the snapshot is written by the next save.
+     */
+    public synchronized void save() {
+        if (!dirty) {
+            return;
+        }
+        dirty = false;
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            Path tmp = Files.createTempFile(cacheFile.getParent(), cacheFile.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeUTF(rules);
+                Map<String, Entry> snapshot = Map.copyOf(entries);
+                out.writeInt(snapshot.size());
+                for (Map.Entry<String, Entry> e : snapshot.entrySet()) {
+                    out.writeUTF(e.getKey());
+                    e.getValue().write(out);
+                }
+            }
+            Files.move(tmp, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            dirty = true;
+            Log.warnf(e, "Failed to write event cache %s", cacheFile);
+        }
+    }
+
+    /**
+     * Compute the content hash used to validate cache entries.
+     */
+    public static byte[] hash(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Get the modification time to record for a file, or {@link #UNTRUSTED} if it was modified too recently.
+     */
+    static long trustedModificationTime(long lastModified) {
+        long now = System.currentTimeMillis() * 1000;
+        return now - lastModified < RACY_WINDOW_MICROS ? UNTRUSTED : lastModified;
+    }
+
+    private static Map<String, Entry> read(Path cacheFile, String rules) {
+        Map<String, Entry> entries = new ConcurrentHashMap<>();
+        if (!Files.exists(cacheFile)) {
+            return entries;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(cacheFile)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                Log.debugf("Ignoring event cache %s with unknown format", cacheFile);
+                return entries;
+            }
+            String written = in.readUTF();
+            if (!written.equals(rules)) {
+                Log.debugf("Ignoring event cache %s written under rules %s, now %s", cacheFile, written, rules);
+                return entries;
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String key = in.readUTF();
+                entries.put(key, Entry.read(in));
+            }
+        } catch (IOException | RuntimeException e) {
+            Log.debugf(e, "Ignoring unreadable event cache %s", cacheFile);
+            entries.clear();
+        }
+        return entries;
+    }
+
+    private record Entry(long size, long lastModified, byte[] hash, ImmutableEvent event) {
+
+        Entry withLastModified(long lastModified) {
+            return new Entry(size, lastModified, hash, event);
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeLong(size);
+            out.writeLong(lastModified);
+            out.writeByte(hash.length);
+            out.write(hash);
+            EventCodec.write(out, event);
+        }
+
+        static Entry read(DataInputStream in) throws IOException {
+            long size = in.readLong();
+            long lastModified = in.readLong();
+            byte[] hash = new byte[in.readUnsignedByte()];
+            in.readFully(hash);
+            return new Entry(size, lastModified, hash, EventCodec.read(in));
+        }
+    }
+}
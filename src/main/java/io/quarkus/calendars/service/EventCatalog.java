@@ -0,0 +1,627 @@
+package io.quarkus.calendars.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import io.quarkus.calendars.config.EventReaders;
+import io.quarkus.calendars.config.LocalEventsConfig;
+import io.quarkus.calendars.model.Event;
+import io.quarkus.calendars.model.ImmutableEvent;
+import io.quarkus.logging.Log;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Process-wide catalog of the event files on disk.
+ * <p>
+ * Each directory is scanned once and each file parsed and validated at most once, whether the result
+ * is used for format checking or for loading events. Parsed events go through the {@link EventCache} and
+ * their dates are recorded in the directory's {@link EventManifest}.
+ * <p>
+ * When the {@link EventBundle} is enabled, events of the directories it holds are served from it
+ * instead. Scans always read the file system, so format checking sees the files as they are.
+ * <p>
+ * Events are converted to {@link ImmutableEvent} once when loaded and shared between callers.
+ */
+@ApplicationScoped
+public class EventCatalog {
+
+    static final int DEFAULT_PARALLELISM = 8;
+
+    // Scans are walked outside the map, which must not block other directories or pin virtual threads
+    private final Map<Path, FutureTask<DirectoryScan>> scans = new ConcurrentHashMap<>();
+    private int parallelism;
+    private Path cacheDirectory;
+    private boolean fastScanner = true;
+    private boolean bundleEnabled;
+    private EventBundle bundle;
+    private boolean bundleLoaded;
+
+    @Inject
+    EventReaders readers;
+
+    /**
+     * Default constructor, used by CDI.
+     */
+    public EventCatalog() {
+        this(null, DEFAULT_PARALLELISM, null);
+    }
+
+    /**
+     * Create a catalog parsing up to {@code parallelism} files concurrently and caching parsed events in
+     * {@code cacheDirectory}, or not at all if it is {@code null}.
+     */
+    public EventCatalog(YAMLMapper yamlMapper, int parallelism, Path cacheDirectory) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1, got " + parallelism);
+        }
+        this.readers = yamlMapper != null ? new EventReaders(yamlMapper) : null;
+        this.parallelism = parallelism;
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    @Inject
+    void configure(LocalEventsConfig config) {
+        if (config.parallelism() < 1) {
+            throw new IllegalArgumentException("local-events.parallelism must be at least 1, got " + config.parallelism());
+        }
+        this.parallelism = config.parallelism();
+        this.cacheDirectory = config.cache().enabled() ? Paths.get(config.cache().directory()) : null;
+        this.fastScanner = config.fastScanner();
+        this.bundleEnabled = config.bundle().enabled();
+    }
+
+    /**
+     * Serve events from the given bundle, or only from the file system if it is {@code null}.
+     */
+    synchronized void useBundle(EventBundle bundle) {
+        this.bundleEnabled = bundle != null;
+        this.bundle = bundle;
+        this.bundleLoaded = true;
+    }
+
+    /**
+     * Get the scan of a directory, walking it on first access.
+     */
+    public DirectoryScan scan(String directory) {
+        Path dir = Paths.get(directory).normalize();
+        FutureTask<DirectoryScan> scan = scans.computeIfAbsent(dir, key -> new FutureTask<>(() -> new DirectoryScan(key)));
+        // Walks the directory in the first caller, later callers wait for it
+        scan.run();
+        try {
+            return scan.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while scanning " + dir, e);
+        } catch (ExecutionException e) {
+            scans.remove(dir, scan);
+            throw new IllegalStateException("Failed to scan " + dir, e.getCause());
+        }
+    }
+
+    /**
+     * Forget all scans, so that changes on disk are picked up by the next access.
+     */
+    public void invalidate() {
+        scans.clear();
+    }
+
+    /**
+     * Load the events of the given kind from a directory, sorted by date.
+     * If both bounds are set, only events within the range are returned, and files indexed with a date
+     * outside the range are not opened. Files that cannot be loaded are logged and skipped.
+     * Once all files of the directory are parsed, queries are answered from an {@link EventStore}.
+     */
+    public List<ImmutableEvent> events(String directory, ImmutableEvent.Kind kind,
+                                       LocalDate startDate, LocalDate endDate) {
+        List<ImmutableEvent> bundled = bundled(directory, kind, startDate, endDate);
+        if (bundled != null) {
+            return bundled;
+        }
+
+        DirectoryScan scan = scan(directory);
+        if (!scan.exists()) {
+            return List.of();
+        }
+        if (scan.error() != null) {
+            Log.warnf(scan.error(), "Failed to read directory %s", directory);
+        }
+
+        boolean ranged = startDate != null && endDate != null;
+        EventStore<ImmutableEvent> store = scan.store(kind);
+        if (store != null) {
+            return ranged ? store.window(startDate, endDate) : store.all();
+        }
+
+        List<Path> candidates = ranged
+                ? scan.files().stream().filter(file -> scan.mayBeInDateRange(file, startDate, endDate)).toList()
+                : scan.files();
+
+        List<ImmutableEvent> events = new ArrayList<>();
+        for (ParsedFile parsed : scan.parse(candidates)) {
+            ImmutableEvent event = select(parsed, kind, startDate, endDate);
+            if (event != null) {
+                events.add(event);
+            }
+        }
+
+        // Sort events by date
+        events.sort(Comparator.comparingLong(ImmutableEvent::getEpochDay));
+
+        return events;
+    }
+
+    /**
+     * Lazily load the events of the given kind from a directory, in directory order, or in date order
+     * when served from the bundle or the directory's {@link EventStore}.
+     * <p>
+     * Files are only parsed as the stream is consumed, and outcomes are not retained unless the file was
+     * already parsed, so large directories can be processed in constant memory and consumers can stop early.
+     * Files indexed or declared with another type or a date outside the range are skipped before the event
+     * is bound. The stream should be closed to persist the updated index and cache.
+     */
+    public Stream<ImmutableEvent> stream(String directory, ImmutableEvent.Kind kind,
+                                         LocalDate startDate, LocalDate endDate) {
+        List<ImmutableEvent> bundled = bundled(directory, kind, startDate, endDate);
+        if (bundled != null) {
+            return bundled.stream();
+        }
+
+        DirectoryScan scan = scan(directory);
+        if (!scan.exists()) {
+            return Stream.empty();
+        }
+        if (scan.error() != null) {
+            Log.warnf(scan.error(), "Failed to read directory %s", directory);
+        }
+
+        boolean ranged = startDate != null && endDate != null;
+        EventStore<ImmutableEvent> store = scan.store(kind);
+        if (store != null) {
+            return (ranged ? store.window(startDate, endDate) : store.all()).stream();
+        }
+
+        return scan.files().stream()
+                .filter(file -> !ranged || scan.mayBeInDateRange(file, startDate, endDate))
+                .map(file -> scan.parseLazily(file, kind, startDate, endDate))
+                .map(parsed -> parsed != null ? select(parsed, kind, startDate, endDate) : null)
+                .filter(Objects::nonNull)
+                .onClose(scan::flush);
+    }
+
+    /**
+     * Get the events of a directory from the bundle, or {@code null} if they are not bundled.
+     */
+    private List<ImmutableEvent> bundled(String directory, ImmutableEvent.Kind kind,
+                                         LocalDate startDate, LocalDate endDate) {
+        EventBundle loaded = bundle();
+        return loaded != null ? loaded.events(directory, kind, startDate, endDate) : null;
+    }
+
+    private synchronized EventBundle bundle() {
+        if (!bundleEnabled) {
+            return null;
+        }
+        if (!bundleLoaded) {
+            bundle = EventBundle.load();
+            bundleLoaded = true;
+            if (bundle == null) {
+                Log.debug("No event bundle found, loading events from the file system");
+            }
+        }
+        return bundle;
+    }
+
+    /**
+     * Get the parsed event if it is valid, of the given kind and within the range, logging the problems
+     * relevant to the caller.
+     */
+    private ImmutableEvent select(ParsedFile parsed, ImmutableEvent.Kind kind, LocalDate startDate, LocalDate endDate) {
+        if (parsed.problem() != null) {
+            switch (parsed.problem()) {
+                case PARSE -> Log.warnf(parsed.error(), "Failed to load event from %s", parsed.file());
+                case VALIDATION -> {
+                    if (parsed.event() != null && parsed.event().getKind() == kind) {
+                        Log.warnf(parsed.error(), "Validation failed for %s", parsed.file());
+                    }
+                }
+                case UNEXPECTED -> throw (RuntimeException) parsed.error();
+            }
+            return null;
+        }
+        ImmutableEvent event = parsed.event();
+        boolean ranged = startDate != null && endDate != null;
+        if (event.getKind() == kind && (!ranged || isInDateRange(event.getDate(), startDate, endDate))) {
+            return event;
+        }
+        return null;
+    }
+
+    private static boolean isInDateRange(LocalDate date, LocalDate startDate, LocalDate endDate) {
+        return !date.isBefore(startDate) && !date.isAfter(endDate);
+    }
+
+    /**
+     * Top-level type name and date of an event file, read without binding the event.
+     */
+    private record Header(String type, LocalDate date) {
+
+        private static final Set<String> KNOWN_TYPES = Arrays.stream(ImmutableEvent.Kind.values())
+                .map(ImmutableEvent.Kind::typeName)
+                .collect(Collectors.toUnmodifiableSet());
+
+        boolean matches(ImmutableEvent.Kind kind, LocalDate startDate, LocalDate endDate) {
+            if (type != null && KNOWN_TYPES.contains(type) && !kind.typeName().equals(type)) {
+                return false;
+            }
+            return date == null || startDate == null || endDate == null || isInDateRange(date, startDate, endDate);
+        }
+    }
+
+    /**
+     * Kind of problem found when loading an event file.
+     */
+    public enum Problem {
+        /**
+         * The file could not be read or is not a valid event document.
+         */
+        PARSE,
+        /**
+         * The event was parsed but failed validation.
+         */
+        VALIDATION,
+        /**
+         * Any other failure.
+         */
+        UNEXPECTED
+    }
+
+    /**
+     * Outcome of loading a single event file.
+     *
+     * @param file    the event file
+     * @param event   the parsed event, possibly invalid, or {@code null} if the file could not be parsed
+     * @param problem the problem found, or {@code null} if the event is valid
+     * @param error   the exception describing the problem, or {@code null} if the event is valid
+     */
+    public record ParsedFile(Path file, ImmutableEvent event, Problem problem, Exception error) {
+    }
+
+    /**
+     * The files of a single event directory, with the outcomes of the files parsed so far.
+     */
+    public final class DirectoryScan {
+
+        private final Path directory;
+        private final boolean exists;
+        private final List<Path> files;
+        private final IOException error;
+        private final Map<Path, ParsedFile> parsed = new HashMap<>();
+        private final Map<ImmutableEvent.Kind, EventStore<ImmutableEvent>> stores = new EnumMap<>(ImmutableEvent.Kind.class);
+        private final EventManifest manifest;
+        private final EventCache cache;
+        // Not a monitor: parsing waits for virtual threads, which must not pin their carrier while waiting
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private DirectoryScan(Path directory) {
+            this.directory = directory;
+            this.exists = Files.exists(directory);
+
+            List<Path> walked = List.of();
+            IOException walkError = null;
+            if (exists) {
+                try (Stream<Path> paths = Files.walk(directory)) {
+                    walked = paths
+                            .filter(Files::isRegularFile)
+                            .filter(path -> path.toString().endsWith(".yaml") || path.toString().endsWith(".yml"))
+                            .toList();
+                } catch (IOException e) {
+                    walkError = e;
+                }
+            }
+            this.files = walked;
+            this.error = walkError;
+            this.manifest = exists ? EventManifest.open(directory) : null;
+            this.cache = exists && cacheDirectory != null ? EventCache.open(cacheDirectory, directory) : null;
+        }
+
+        public Path directory() {
+            return directory;
+        }
+
+        /**
+         * Whether the directory exists.
+         */
+        public boolean exists() {
+            return exists;
+        }
+
+        /**
+         * The YAML files found in the directory, in walk order.
+         */
+        public List<Path> files() {
+            return files;
+        }
+
+        /**
+         * The error raised while walking the directory, if any.
+         */
+        public IOException error() {
+            return error;
+        }
+
+        /**
+         * Parse and validate all files of the directory.
+         */
+        public List<ParsedFile> parseAll() {
+            return parse(files);
+        }
+
+        /**
+         * Get the index of the valid events of the given kind, or {@code null} until all files are parsed.
+         */
+        EventStore<ImmutableEvent> store(ImmutableEvent.Kind kind) {
+            lock.lock();
+            try {
+                EventStore<ImmutableEvent> store = stores.get(kind);
+                if (store == null && parsed.keySet().containsAll(files)) {
+                    store = EventStore.of(files.stream()
+                            .map(parsed::get)
+                            .filter(outcome -> outcome.problem() == null && outcome.event().getKind() == kind)
+                            .map(ParsedFile::event)
+                            .toList());
+                    stores.put(kind, store);
+                }
+                return store;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean mayBeInDateRange(Path file, LocalDate startDate, LocalDate endDate) {
+            LocalDate indexedDate = manifest.date(file);
+            return indexedDate == null || isInDateRange(indexedDate, startDate, endDate);
+        }
+
+        /**
+         * Parse and validate the given files of this directory, reusing earlier outcomes.
+         * Outcomes are returned in the order of the given files.
+         */
+        List<ParsedFile> parse(List<Path> requested) {
+            lock.lock();
+            try {
+                List<Path> missing = requested.stream().filter(file -> !parsed.containsKey(file)).toList();
+                if (!missing.isEmpty()) {
+                    List<ParsedFile> outcomes = parallelism > 1 && missing.size() > 1
+                            ? parseConcurrently(missing)
+                            : missing.stream().map(this::parseFile).toList();
+                    for (ParsedFile outcome : outcomes) {
+                        parsed.put(outcome.file(), outcome);
+                        if (outcome.problem() == null) {
+                            manifest.record(outcome.file(), outcome.event().getDate());
+                        }
+                    }
+
+                    manifest.retainAll(files);
+                    manifest.save();
+                    if (cache != null) {
+                        cache.retainAll(files);
+                        cache.save();
+                    }
+                }
+                return requested.stream().map(parsed::get).toList();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Parse a single file for streaming, without retaining the outcome.
+         * Returns {@code null} if the file header shows another known type or a date outside the range.
+         */
+        ParsedFile parseLazily(Path file, ImmutableEvent.Kind kind, LocalDate startDate, LocalDate endDate) {
+            lock.lock();
+            try {
+                ParsedFile known = parsed.get(file);
+                if (known != null) {
+                    return known;
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            if (cache != null) {
+                try {
+                    BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                    ImmutableEvent cached = cache.get(file, attributes.size(), attributes.lastModifiedTime().to(TimeUnit.MICROSECONDS));
+                    if (cached != null) {
+                        return new ParsedFile(file, cached, null, null);
+                    }
+                } catch (IOException e) {
+                    // Reported by the full parse below
+                }
+            }
+
+            // The fast scanner reads the whole file for about the cost of a header peek
+            if (!fastScanner) {
+                Header header = peek(file);
+                if (header != null && !header.matches(kind, startDate, endDate)) {
+                    return null;
+                }
+            }
+
+            ParsedFile outcome = parseFile(file);
+            if (outcome.problem() == null) {
+                // Recorded under the lock parse() holds while pruning and saving the index
+                lock.lock();
+                try {
+                    manifest.record(file, outcome.event().getDate());
+                } finally {
+                    lock.unlock();
+                }
+            }
+            return outcome;
+        }
+
+        /**
+         * Persist the index and cache updates made while streaming.
+         */
+        void flush() {
+            lock.lock();
+            try {
+                manifest.save();
+                if (cache != null) {
+                    cache.save();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Read the top-level {@code type} and {@code date} of an event file without binding the event.
+         * Returns {@code null} if the file cannot be read this way, leaving the error to the full parse.
+         */
+        private Header peek(Path file) {
+            try (JsonParser parser = readers.event().createParser(file.toFile())) {
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    return null;
+                }
+                // Type given as a native YAML tag, e.g. "--- !<release>"
+                Object typeId = parser.canReadTypeId() ? parser.getTypeId() : null;
+                String type = typeId != null ? typeId.toString() : null;
+                LocalDate date = null;
+                while (parser.nextToken() == JsonToken.FIELD_NAME && (type == null || date == null)) {
+                    String name = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    if ("type".equals(name) && value == JsonToken.VALUE_STRING) {
+                        type = parser.getText();
+                    } else if ("date".equals(name) && value == JsonToken.VALUE_STRING) {
+                        date = LocalDate.parse(parser.getText());
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                return new Header(type, date);
+            } catch (IOException | DateTimeParseException e) {
+                return null;
+            }
+        }
+
+        /**
+         * Parse the given files on virtual threads, with at most {@code parallelism} files in flight.
+         * Outcomes are collected in file order.
+         */
+        private List<ParsedFile> parseConcurrently(List<Path> yamlFiles) {
+            Semaphore permits = new Semaphore(parallelism);
+            List<ParsedFile> outcomes = new ArrayList<>(yamlFiles.size());
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<ParsedFile>> futures = new ArrayList<>(yamlFiles.size());
+                for (Path yamlFile : yamlFiles) {
+                    futures.add(executor.submit(() -> {
+                        permits.acquire();
+                        try {
+                            return parseFile(yamlFile);
+                        } finally {
+                            permits.release();
+                        }
+                    }));
+                }
+
+                for (Future<ParsedFile> future : futures) {
+                    outcomes.add(future.get());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while loading events", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Failed to load events", e.getCause());
+            }
+
+            return outcomes;
+        }
+
+        /**
+         * Read an event from file content, through the fast scanner when enabled and possible.
+         */
+        private Event read(byte[] content) throws IOException {
+            if (fastScanner) {
+                Event event = EventYamlScanner.scan(content);
+                if (event != null) {
+                    return event;
+                }
+            }
+            return readers.event().readValue(content);
+        }
+
+        /**
+         * Parse and validate a single event file, going through the cache when enabled.
+         */
+        private ParsedFile parseFile(Path yamlFile) {
+            Event event = null;
+            try {
+                if (cache == null) {
+                    event = read(Files.readAllBytes(yamlFile));
+                    event.validate();
+                    return new ParsedFile(yamlFile, ImmutableEvent.of(event), null, null);
+                }
+
+                BasicFileAttributes attributes = Files.readAttributes(yamlFile, BasicFileAttributes.class);
+                long size = attributes.size();
+                long lastModified = attributes.lastModifiedTime().to(TimeUnit.MICROSECONDS);
+                ImmutableEvent cached = cache.get(yamlFile, size, lastModified);
+                if (cached != null) {
+                    return new ParsedFile(yamlFile, cached, null, null);
+                }
+
+                byte[] content = Files.readAllBytes(yamlFile);
+                byte[] hash = EventCache.hash(content);
+                cached = cache.get(yamlFile, content.length, lastModified, hash);
+                if (cached != null) {
+                    return new ParsedFile(yamlFile, cached, null, null);
+                }
+
+                event = read(content);
+                event.validate();
+                ImmutableEvent snapshot = ImmutableEvent.of(event);
+                cache.put(yamlFile, content.length, lastModified, hash, snapshot);
+                return new ParsedFile(yamlFile, snapshot, null, null);
+            } catch (IOException e) {
+                return new ParsedFile(yamlFile, null, Problem.PARSE, e);
+            } catch (IllegalArgumentException e) {
+                return new ParsedFile(yamlFile, event != null ? ImmutableEvent.of(event) : null, Problem.VALIDATION, e);
+            } catch (RuntimeException e) {
+                return new ParsedFile(yamlFile, event != null ? ImmutableEvent.of(event) : null, Problem.UNEXPECTED, e);
+            }
+        }
+    }
+}
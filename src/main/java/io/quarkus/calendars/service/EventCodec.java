@@ -0,0 +1,79 @@
+package io.quarkus.calendars.service;
+
+import io.quarkus.calendars.model.ImmutableEvent;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Binary encoding of validated events, shared by the {@link EventCache} and the {@link EventBundle}.
+ */
+final class EventCodec {
+
+    private static final byte RELEASE = 0;
+    private static final byte CALL = 1;
+
+    private static final int HAS_DESCRIPTION = 1;
+    private static final int HAS_TIME = 1 << 1;
+    private static final int HAS_DURATION = 1 << 2;
+    private static final int HAS_CALL_LINK = 1 << 3;
+
+    private EventCodec() {
+        // Utility class
+    }
+
+    static void write(DataOutput out, ImmutableEvent event) throws IOException {
+        LocalTime time = event.getTime();
+        Duration duration = event.getDuration();
+        out.writeByte(event.getKind() == ImmutableEvent.Kind.CALL ? CALL : RELEASE);
+        int flags = (event.getDescription() != null ? HAS_DESCRIPTION : 0)
+                | (time != null ? HAS_TIME : 0)
+                | (duration != null ? HAS_DURATION : 0)
+                | (event.getCallLink() != null ? HAS_CALL_LINK : 0);
+        out.writeByte(flags);
+        out.writeUTF(event.getTitle());
+        if (event.getDescription() != null) {
+            // Descriptions may exceed the 64KB limit of writeUTF
+            byte[] bytes = event.getDescription().getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+        out.writeLong(event.getEpochDay());
+        if (time != null) {
+            out.writeLong(time.toNanoOfDay());
+        }
+        if (duration != null) {
+            out.writeLong(duration.getSeconds());
+            out.writeInt(duration.getNano());
+        }
+        if (event.getCallLink() != null) {
+            out.writeUTF(event.getCallLink());
+        }
+    }
+
+    static ImmutableEvent read(DataInput in) throws IOException {
+        byte type = in.readByte();
+        if (type != RELEASE && type != CALL) {
+            throw new IOException("Unknown event type " + type);
+        }
+        int flags = in.readUnsignedByte();
+        String title = in.readUTF();
+        String description = null;
+        if ((flags & HAS_DESCRIPTION) != 0) {
+            byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            description = new String(bytes, StandardCharsets.UTF_8);
+        }
+        LocalDate date = LocalDate.ofEpochDay(in.readLong());
+        LocalTime time = (flags & HAS_TIME) != 0 ? LocalTime.ofNanoOfDay(in.readLong()) : null;
+        Duration duration = (flags & HAS_DURATION) != 0 ? Duration.ofSeconds(in.readLong(), in.readInt()) : null;
+        String callLink = (flags & HAS_CALL_LINK) != 0 ? in.readUTF() : null;
+        return ImmutableEvent.of(type == CALL ? ImmutableEvent.Kind.CALL : ImmutableEvent.Kind.RELEASE,
+                title, description, date, time, duration, callLink);
+    }
+}
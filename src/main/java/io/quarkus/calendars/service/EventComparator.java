@@ -1,9 +1,9 @@
 package io.quarkus.calendars.service;
 
 import com.google.api.services.calendar.model.EventDateTime;
-import io.quarkus.calendars.model.CallEvent;
 import io.quarkus.calendars.model.Event;
-import io.quarkus.calendars.model.ReleaseEvent;
+import io.quarkus.calendars.model.EventField;
+import io.quarkus.calendars.model.ImmutableEvent;
 import io.quarkus.calendars.util.Constants;
 import io.quarkus.calendars.util.EventUtils;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -12,7 +12,9 @@ import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZonedDateTime;
+import java.util.EnumSet;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Service for comparing local events with remote Google Calendar events.
@@ -25,6 +27,14 @@ public class EventComparator {
      * Events match if they have the same title and date.
      */
     public boolean matches(Event localEvent, com.google.api.services.calendar.model.Event remoteEvent) {
+        return matches(ImmutableEvent.of(localEvent), remoteEvent);
+    }
+
+    /**
+     * Check if a local event matches a remote Google Calendar event.
+     * Events match if they have the same title and date.
+     */
+    public boolean matches(ImmutableEvent localEvent, com.google.api.services.calendar.model.Event remoteEvent) {
         String localTitle = localEvent.getTitle();
         String remoteTitle = remoteEvent.getSummary();
 
@@ -43,15 +53,36 @@ public class EventComparator {
      * Assumes events match based on title and date.
      */
     public boolean needsUpdate(Event localEvent, com.google.api.services.calendar.model.Event remoteEvent) {
+        return needsUpdate(ImmutableEvent.of(localEvent), remoteEvent);
+    }
+
+    /**
+     * Check if a local event has different content than a remote event.
+     * Assumes events match based on title and date.
+     */
+    public boolean needsUpdate(ImmutableEvent localEvent, com.google.api.services.calendar.model.Event remoteEvent) {
+        return !differences(localEvent, remoteEvent).isEmpty();
+    }
+
+    /**
+     * Get the fields of a remote event that differ from the local event, i.e. the fields an update must set.
+     * Assumes events match based on title and date.
+     *
+     * @return the differing fields, empty if the remote event is up to date
+     */
+    public Set<EventField> differences(ImmutableEvent localEvent, com.google.api.services.calendar.model.Event remoteEvent) {
+        Set<EventField> fields = EnumSet.noneOf(EventField.class);
+        boolean call = localEvent.getKind() == ImmutableEvent.Kind.CALL;
+
         // Check description
         String localDescription = localEvent.getDescription();
         String remoteDescription = remoteEvent.getDescription();
 
         // For CallEvents, normalize remote description by removing appended call link
-        if (localEvent instanceof CallEvent callEvent) {
-            String callLink = callEvent.getCallLink();
+        if (call) {
+            String callLink = localEvent.getCallLink();
             if (remoteDescription != null && callLink != null) {
-                // The CalendarReconciliation service appends "\n\nJoin: " + callLink
+                // EventUtils.toGoogleEvent appends "\n\nJoin: " + callLink
                 String callLinkSuffix = "\n\nJoin: " + callLink;
                 if (remoteDescription.endsWith(callLinkSuffix)) {
                     remoteDescription = remoteDescription.substring(0, remoteDescription.length() - callLinkSuffix.length());
@@ -60,34 +91,35 @@ public class EventComparator {
         }
 
         if (!equals(localDescription, remoteDescription)) {
-            return true;
+            fields.add(EventField.DESCRIPTION);
         }
 
         // Check time for call events
-        if (localEvent instanceof CallEvent callEvent) {
-            LocalTime localTime = callEvent.getTime();
+        if (call) {
+            LocalTime localTime = localEvent.getTime();
             LocalTime remoteTime = extractTime(remoteEvent);
             if (!equals(localTime, remoteTime)) {
-                return true;
+                fields.add(EventField.START);
+                fields.add(EventField.END);
             }
 
-            Duration localDuration = callEvent.getDuration();
+            Duration localDuration = localEvent.getDuration();
             Duration remoteDuration = extractDuration(remoteEvent);
             if (!equals(localDuration, remoteDuration)) {
-                return true;
+                fields.add(EventField.END);
             }
 
-            String localCallLink = callEvent.getCallLink();
+            // The call link is part of the description
+            String localCallLink = localEvent.getCallLink();
             String remoteCallLink = extractCallLink(remoteEvent);
             if (!equals(localCallLink, remoteCallLink)) {
-                return true;
+                fields.add(EventField.DESCRIPTION);
             }
         }
 
-        return false;
+        return fields;
     }
 
-
     private LocalTime extractTime(com.google.api.services.calendar.model.Event event) {
         EventDateTime start = event.getStart();
 
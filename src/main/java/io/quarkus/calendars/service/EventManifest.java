@@ -0,0 +1,167 @@
+package io.quarkus.calendars.service;
+
+import io.quarkus.logging.Log;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Sidecar index mapping each event file of a directory to its event date.
+ * <p>
+ * The index is stored as {@value #FILE_NAME} inside the event directory. It is written by the
+ * {@code check-format} command and refreshed by {@link LocalEventLoader}, which uses it to skip files
+ * outside the requested date range without opening them. An entry is only trusted while the size and
+ * modification time of its file are unchanged, so a stale or missing index only costs parsing time.
+ */
+public class EventManifest {
+
+    public static final String FILE_NAME = ".events-index";
+
+    private static final String HEADER = "# quarkus-calendars event index v1";
+
+    private final Path directory;
+    private final Map<String, Entry> entries;
+    private volatile boolean dirty;
+
+    private EventManifest(Path directory, Map<String, Entry> entries) {
+        this.directory = directory;
+        this.entries = entries;
+    }
+
+    /**
+     * Open the index of the given event directory.
+     *
+     * @param directory the event directory
+     * @return the index, empty if none exists or it cannot be read
+     */
+    public static EventManifest open(Path directory) {
+        return new EventManifest(directory, read(directory.resolve(FILE_NAME)));
+    }
+
+    /**
+     * Get the indexed date of an event file.
+     *
+     * @return the event date, or {@code null} if the file is not indexed or changed since it was indexed
+     */
+    public LocalDate date(Path file) {
+        Entry entry = entries.get(key(file));
+        if (entry == null || entry.lastModified == EventCache.UNTRUSTED) {
+            return null;
+        }
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            if (attributes.size() != entry.size
+                    || attributes.lastModifiedTime().to(TimeUnit.MICROSECONDS) != entry.lastModified) {
+                return null;
+            }
+        } catch (IOException e) {
+            return null;
+        }
+        return LocalDate.ofEpochDay(entry.epochDay);
+    }
+
+    /**
+     * Record the event date of a file that was just parsed.
+     */
+    public void record(Path file, LocalDate date) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            Entry entry = new Entry(attributes.size(),
+                    EventCache.trustedModificationTime(attributes.lastModifiedTime().to(TimeUnit.MICROSECONDS)),
+                    date.toEpochDay());
+            if (!entry.equals(entries.put(key(file), entry))) {
+                dirty = true;
+            }
+        } catch (IOException e) {
+            Log.debugf(e, "Unable to index %s", file);
+        }
+    }
+
+    /**
+     * Drop the entries of files that are no longer present.
+     */
+    public void retainAll(Collection<Path> files) {
+        Set<String> keys = files.stream().map(this::key).collect(Collectors.toSet());
+        if (entries.keySet().retainAll(keys)) {
+            dirty = true;
+        }
+    }
+
+    /**
+     * Write the index if it changed. Failures are logged and otherwise ignored.
+     * <p>
+     * Files may be recorded while saving: the change flag is cleared before the entries are copied, so that
+     * a record missed by the copy is written by the next save.
+     */
+    public synchronized void save() {
+        if (!dirty) {
+            return;
+        }
+        dirty = false;
+        Path indexFile = directory.resolve(FILE_NAME);
+        try {
+            Path tmp = Files.createTempFile(directory, FILE_NAME, ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                writer.write(HEADER);
+                writer.newLine();
+                for (Map.Entry<String, Entry> e : new TreeMap<>(entries).entrySet()) {
+                    Entry entry = e.getValue();
+                    writer.write(LocalDate.ofEpochDay(entry.epochDay) + "\t" + entry.size + "\t"
+                            + entry.lastModified + "\t" + e.getKey());
+                    writer.newLine();
+                }
+            }
+            Files.move(tmp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            dirty = true;
+            Log.warnf(e, "Failed to write event index %s", indexFile);
+        }
+    }
+
+    private String key(Path file) {
+        return directory.relativize(file).toString();
+    }
+
+    private static Map<String, Entry> read(Path indexFile) {
+        Map<String, Entry> entries = new ConcurrentHashMap<>();
+        if (!Files.exists(indexFile)) {
+            return entries;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(indexFile, StandardCharsets.UTF_8)) {
+            if (!HEADER.equals(reader.readLine())) {
+                Log.debugf("Ignoring event index %s with unknown format", indexFile);
+                return entries;
+            }
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split("\t", 4);
+                if (fields.length != 4) {
+                    throw new IOException("Malformed line: " + line);
+                }
+                entries.put(fields[3], new Entry(Long.parseLong(fields[1]), Long.parseLong(fields[2]),
+                        LocalDate.parse(fields[0]).toEpochDay()));
+            }
+        } catch (IOException | RuntimeException e) {
+            Log.debugf(e, "Ignoring unreadable event index %s", indexFile);
+            entries.clear();
+        }
+        return entries;
+    }
+
+    private record Entry(long size, long lastModified, long epochDay) {
+    }
+}
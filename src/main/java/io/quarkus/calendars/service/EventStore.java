@@ -0,0 +1,154 @@
+package io.quarkus.calendars.service;
+
+import io.quarkus.calendars.model.ImmutableEvent;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Read-only, in-memory index of events by day, answering range queries in logarithmic time.
+ * <p>
+ * Events are sorted by start day, kept as epoch days in a primitive array, and located with binary search.
+ * Events spanning several days are found by overlap queries, which only look back as far as the longest
+ * span in the store. Stores are immutable and can be shared between threads.
+ *
+ * @param <T> the type of events, local or remote
+ */
+public final class EventStore<T> {
+
+    private final long[] startDays;
+    private final long[] endDays;
+    private final List<T> events;
+    private final long maxSpan;
+
+    private EventStore(long[] startDays, long[] endDays, List<T> events, long maxSpan) {
+        this.startDays = startDays;
+        this.endDays = endDays;
+        this.events = events;
+        this.maxSpan = maxSpan;
+    }
+
+    /**
+     * Index local events by their date.
+     */
+    public static EventStore<ImmutableEvent> of(Collection<ImmutableEvent> events) {
+        return of(events, ImmutableEvent::getEpochDay, ImmutableEvent::getEpochDay);
+    }
+
+    /**
+     * Index events by the epoch days they start and end on (both inclusive).
+     * Events starting on the same day keep their relative order.
+     */
+    public static <T> EventStore<T> of(Collection<? extends T> events,
+                                       ToLongFunction<? super T> startDay, ToLongFunction<? super T> endDay) {
+        List<T> unsorted = List.copyOf(events);
+        int size = unsorted.size();
+        long[] starts = new long[size];
+        long[] ends = new long[size];
+        for (int i = 0; i < size; i++) {
+            starts[i] = startDay.applyAsLong(unsorted.get(i));
+            ends[i] = Math.max(starts[i], endDay.applyAsLong(unsorted.get(i)));
+        }
+
+        // Stable sort of the positions by start day
+        Integer[] order = new Integer[size];
+        Arrays.setAll(order, i -> i);
+        Arrays.sort(order, Comparator.comparingLong(i -> starts[i]));
+
+        long[] sortedStarts = new long[size];
+        long[] sortedEnds = new long[size];
+        List<T> sorted = new ArrayList<>(size);
+        long maxSpan = 0;
+        for (int i = 0; i < size; i++) {
+            int position = order[i];
+            sortedStarts[i] = starts[position];
+            sortedEnds[i] = ends[position];
+            sorted.add(unsorted.get(position));
+            maxSpan = Math.max(maxSpan, ends[position] - starts[position]);
+        }
+        return new EventStore<>(sortedStarts, sortedEnds, List.copyOf(sorted), maxSpan);
+    }
+
+    /**
+     * All events, sorted by start day.
+     */
+    public List<T> all() {
+        return events;
+    }
+
+    public int size() {
+        return events.size();
+    }
+
+    /**
+     * Events starting within the given range (both inclusive), sorted by start day.
+     */
+    public List<T> window(LocalDate startDate, LocalDate endDate) {
+        long startDay = startDate.toEpochDay();
+        long endDay = endDate.toEpochDay();
+        if (startDay > endDay) {
+            return List.of();
+        }
+        return events.subList(firstStartingOnOrAfter(startDay), firstStartingAfter(endDay));
+    }
+
+    /**
+     * Events starting on the given day.
+     */
+    public List<T> on(LocalDate date) {
+        return window(date, date);
+    }
+
+    /**
+     * Events spanning at least one day of the given range (both inclusive), sorted by start day.
+     */
+    public List<T> overlapping(LocalDate startDate, LocalDate endDate) {
+        long startDay = startDate.toEpochDay();
+        long endDay = endDate.toEpochDay();
+        if (startDay > endDay) {
+            return List.of();
+        }
+        int from = firstStartingOnOrAfter(startDay - maxSpan);
+        int to = firstStartingAfter(endDay);
+        List<T> overlapping = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            if (endDays[i] >= startDay) {
+                overlapping.add(events.get(i));
+            }
+        }
+        return overlapping;
+    }
+
+    private int firstStartingOnOrAfter(long day) {
+        int low = 0;
+        int high = startDays.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (startDays[mid] < day) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int firstStartingAfter(long day) {
+        int low = 0;
+        int high = startDays.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (startDays[mid] <= day) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
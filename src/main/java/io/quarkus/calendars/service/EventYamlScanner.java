@@ -0,0 +1,413 @@
+package io.quarkus.calendars.service;
+
+import io.quarkus.calendars.model.CallEvent;
+import io.quarkus.calendars.model.Event;
+import io.quarkus.calendars.model.ReleaseEvent;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Fast path for reading event files, working directly on the file bytes.
+ * <p>
+ * Event files are flat mappings of a few known keys with scalar values. This scanner handles that subset
+ * of YAML: an optional {@code ---} line, comments, plain, single- and double-quoted single-line scalars
+ * without escapes, and literal block scalars ({@code |} and {@code |-}). It builds the event with the same
+ * setters Jackson uses. Anything else, including unknown or duplicate keys and scalars YAML could resolve
+ * to a non-string value, makes {@link #scan(byte[])} return {@code null} so the caller can fall back to
+ * the YAML mapper, which also produces the error messages for invalid files.
+ */
+public final class EventYamlScanner {
+
+    private static final String TYPE = "type";
+    private static final String TITLE = "title";
+    private static final String DESCRIPTION = "description";
+    private static final String DATE = "date";
+    private static final String TIME = "time";
+    private static final String DURATION = "duration";
+    private static final String CALL_LINK = "callLink";
+
+    private EventYamlScanner() {
+        // Utility class
+    }
+
+    /**
+     * Read an event from the bytes of an event file.
+     *
+     * @param content the file content
+     * @return the event, or {@code null} if the content is outside the supported subset
+     */
+    public static Event scan(byte[] content) {
+        try {
+            return new Cursor(content).scan();
+        } catch (Unsupported | DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Thrown when the content is outside the supported subset.
+     */
+    private static final class Unsupported extends RuntimeException {
+
+        private static final Unsupported INSTANCE = new Unsupported();
+
+        private Unsupported() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final class Cursor {
+
+        private final byte[] bytes;
+        private int pos;
+
+        private String type;
+        private String title;
+        private String description;
+        private String date;
+        private String time;
+        private String duration;
+        private String callLink;
+        private int seen;
+
+        Cursor(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        Event scan() {
+            if (bytes.length >= 3 && (bytes[0] & 0xFF) == 0xEF) {
+                // Byte order mark
+                throw Unsupported.INSTANCE;
+            }
+
+            boolean first = true;
+            while (pos < bytes.length) {
+                int lineStart = pos;
+                int lineEnd = lineEnd(pos);
+                pos = next(lineEnd);
+
+                if (isBlankOrComment(lineStart, lineEnd)) {
+                    continue;
+                }
+                if (first && isDocumentStart(lineStart, lineEnd)) {
+                    first = false;
+                    continue;
+                }
+                first = false;
+                if (bytes[lineStart] == ' ') {
+                    // Continuation lines are only supported in block scalars
+                    throw Unsupported.INSTANCE;
+                }
+                entry(lineStart, lineEnd);
+            }
+
+            return build();
+        }
+
+        private void entry(int lineStart, int lineEnd) {
+            int colon = lineStart;
+            while (colon < lineEnd && isKeyChar(bytes[colon])) {
+                colon++;
+            }
+            if (colon == lineStart || colon >= lineEnd || bytes[colon] != ':') {
+                throw Unsupported.INSTANCE;
+            }
+            String key = ascii(lineStart, colon);
+            int valueStart = colon + 1;
+            if (valueStart < lineEnd && bytes[valueStart] != ' ') {
+                throw Unsupported.INSTANCE;
+            }
+            valueStart = skipSpaces(valueStart, lineEnd);
+            int valueEnd = trimEnd(valueStart, lineEnd);
+            if (valueStart == valueEnd) {
+                // Null value or nested structure
+                throw Unsupported.INSTANCE;
+            }
+
+            String value = bytes[valueStart] == '|'
+                    ? literalBlock(valueStart, valueEnd)
+                    : singleLineScalar(valueStart, valueEnd);
+
+            switch (key) {
+                case TYPE -> type = set(0, value);
+                case TITLE -> title = set(1, value);
+                case DESCRIPTION -> description = set(2, value);
+                case DATE -> date = set(3, value);
+                case TIME -> time = set(4, value);
+                case DURATION -> duration = set(5, value);
+                case CALL_LINK -> callLink = set(6, value);
+                default -> throw Unsupported.INSTANCE;
+            }
+        }
+
+        private String set(int bit, String value) {
+            if ((seen & (1 << bit)) != 0) {
+                // Duplicate key
+                throw Unsupported.INSTANCE;
+            }
+            seen |= 1 << bit;
+            return value;
+        }
+
+        private String singleLineScalar(int start, int end) {
+            byte c = bytes[start];
+            if (c == '"' || c == '\'') {
+                if (end - start < 2 || bytes[end - 1] != c) {
+                    throw Unsupported.INSTANCE;
+                }
+                for (int i = start + 1; i < end - 1; i++) {
+                    if (bytes[i] == c || bytes[i] == '\\') {
+                        // Escapes and embedded quotes
+                        throw Unsupported.INSTANCE;
+                    }
+                }
+                return utf8(start + 1, end - 1);
+            }
+
+            if (isIndicator(c) || ((c == '-' || c == '?' || c == ':') && (end - start == 1 || bytes[start + 1] == ' '))) {
+                throw Unsupported.INSTANCE;
+            }
+            for (int i = start; i < end; i++) {
+                byte b = bytes[i];
+                if (b == '\t' || (b == '#' && bytes[i - 1] == ' ') || (b == ':' && (i + 1 == end || bytes[i + 1] == ' '))) {
+                    // Comments and mapping values
+                    throw Unsupported.INSTANCE;
+                }
+            }
+            String value = utf8(start, end);
+            if (isNonString(value)) {
+                throw Unsupported.INSTANCE;
+            }
+            return value;
+        }
+
+        /**
+         * Read a literal block scalar ({@code |} keeping one final line break, {@code |-} stripping it).
+         */
+        private String literalBlock(int start, int end) {
+            boolean strip;
+            if (end - start == 1) {
+                strip = false;
+            } else if (end - start == 2 && bytes[start + 1] == '-') {
+                strip = true;
+            } else {
+                throw Unsupported.INSTANCE;
+            }
+
+            StringBuilder text = new StringBuilder();
+            int indent = -1;
+            int pendingBreaks = 0;
+            int lastContentEnd = -1;
+            while (pos < bytes.length) {
+                int lineStart = pos;
+                int lineEnd = lineEnd(pos);
+                int contentStart = skipSpaces(lineStart, lineEnd);
+
+                if (contentStart == lineEnd) {
+                    // Empty line: only whitespace up to the indentation is allowed
+                    if (indent < 0 || lineEnd - lineStart > indent) {
+                        throw Unsupported.INSTANCE;
+                    }
+                    pendingBreaks++;
+                    pos = next(lineEnd);
+                    continue;
+                }
+
+                int lineIndent = contentStart - lineStart;
+                if (indent < 0) {
+                    if (lineIndent == 0) {
+                        throw Unsupported.INSTANCE;
+                    }
+                    indent = lineIndent;
+                } else if (lineIndent < indent) {
+                    if (lineIndent > 0) {
+                        throw Unsupported.INSTANCE;
+                    }
+                    break;
+                }
+
+                for (int i = lineStart; i < lineEnd; i++) {
+                    if (bytes[i] == '\t') {
+                        throw Unsupported.INSTANCE;
+                    }
+                }
+                if (!text.isEmpty()) {
+                    text.append('\n');
+                }
+                text.repeat('\n', pendingBreaks);
+                pendingBreaks = 0;
+                text.append(utf8(lineStart + indent, lineEnd));
+                lastContentEnd = lineEnd;
+                pos = next(lineEnd);
+            }
+
+            if (indent < 0 || (!strip && lastContentEnd == bytes.length)) {
+                // No content, or no final line break to keep
+                throw Unsupported.INSTANCE;
+            }
+            if (!strip) {
+                text.append('\n');
+            }
+            return text.toString();
+        }
+
+        private Event build() {
+            if (type == null) {
+                throw Unsupported.INSTANCE;
+            }
+            Event event = switch (type) {
+                case "release" -> new ReleaseEvent();
+                case "call" -> new CallEvent();
+                default -> throw Unsupported.INSTANCE;
+            };
+
+            if (title != null) {
+                event.setTitle(title);
+            }
+            if (description != null) {
+                event.setDescription(description);
+            }
+            if (date != null) {
+                if (!matches(date, "dddd-dd-dd")) {
+                    throw Unsupported.INSTANCE;
+                }
+                event.setDate(LocalDate.parse(date));
+            }
+            if (time != null) {
+                if (!matches(time, "dd:dd:dd") && !matches(time, "dd:dd")) {
+                    throw Unsupported.INSTANCE;
+                }
+                event.setTime(LocalTime.parse(time));
+            }
+            if (duration != null) {
+                if (duration.isEmpty() || duration.charAt(0) != 'P') {
+                    throw Unsupported.INSTANCE;
+                }
+                event.setDuration(Duration.parse(duration));
+            }
+            if (callLink != null) {
+                event.setCallLink(callLink);
+            }
+            return event;
+        }
+
+        private int lineEnd(int from) {
+            int i = from;
+            while (i < bytes.length && bytes[i] != '\n') {
+                if (bytes[i] == '\r') {
+                    throw Unsupported.INSTANCE;
+                }
+                i++;
+            }
+            return i;
+        }
+
+        private int next(int lineEnd) {
+            return lineEnd < bytes.length ? lineEnd + 1 : lineEnd;
+        }
+
+        private boolean isBlankOrComment(int start, int end) {
+            int i = skipSpaces(start, end);
+            return i == end || bytes[i] == '#';
+        }
+
+        private boolean isDocumentStart(int start, int end) {
+            return end - start >= 3 && bytes[start] == '-' && bytes[start + 1] == '-' && bytes[start + 2] == '-'
+                    && trimEnd(start + 3, end) == start + 3;
+        }
+
+        private int skipSpaces(int from, int end) {
+            int i = from;
+            while (i < end && bytes[i] == ' ') {
+                i++;
+            }
+            return i;
+        }
+
+        private int trimEnd(int start, int end) {
+            int i = end;
+            while (i > start && bytes[i - 1] == ' ') {
+                i--;
+            }
+            return i;
+        }
+
+        private String ascii(int start, int end) {
+            return new String(bytes, start, end - start, StandardCharsets.US_ASCII);
+        }
+
+        private String utf8(int start, int end) {
+            for (int i = start; i < end; i++) {
+                if (bytes[i] < 0) {
+                    try {
+                        return StandardCharsets.UTF_8.newDecoder()
+                                .decode(ByteBuffer.wrap(bytes, start, end - start))
+                                .toString();
+                    } catch (CharacterCodingException e) {
+                        throw Unsupported.INSTANCE;
+                    }
+                }
+            }
+            return ascii(start, end);
+        }
+
+        private static boolean isKeyChar(byte b) {
+            return (b >= 'a' && b <= 'z') || (b >= 'A' && b <= 'Z');
+        }
+
+        private static boolean isIndicator(byte c) {
+            return switch (c) {
+                case '[', ']', '{', '}', ',', '!', '&', '*', '|', '>', '%', '@', '`', '#' -> true;
+                default -> false;
+            };
+        }
+
+        /**
+         * Whether a plain scalar may be resolved by YAML to something other than a string.
+         */
+        private static boolean isNonString(String value) {
+            return switch (value) {
+                case "~", "null", "Null", "NULL", "true", "True", "TRUE", "false", "False", "FALSE",
+                     "yes", "Yes", "YES", "no", "No", "NO", "on", "On", "ON", "off", "Off", "OFF",
+                     "y", "Y", "n", "N" -> true;
+                default -> looksNumeric(value);
+            };
+        }
+
+        private static boolean looksNumeric(String value) {
+            char c = value.charAt(0);
+            if (c == '+' || c == '-' || c == '.') {
+                return value.length() > 1 && (Character.isDigit(value.charAt(1)) || value.charAt(1) == '.'
+                        || value.regionMatches(true, 1, "inf", 0, 3) || value.regionMatches(true, 1, "nan", 0, 3));
+            }
+            if (!Character.isDigit(c)) {
+                return false;
+            }
+            // Dates and times are read as strings by the YAML parser and checked by their own pattern
+            return !matches(value, "dddd-dd-dd") && !matches(value, "dd:dd:dd") && !matches(value, "dd:dd");
+        }
+
+        /**
+         * Match a value against a pattern where {@code d} stands for a digit.
+         */
+        private static boolean matches(String value, String pattern) {
+            if (value.length() != pattern.length()) {
+                return false;
+            }
+            for (int i = 0; i < pattern.length(); i++) {
+                char p = pattern.charAt(i);
+                char c = value.charAt(i);
+                if (p == 'd' ? !Character.isDigit(c) : c != p) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
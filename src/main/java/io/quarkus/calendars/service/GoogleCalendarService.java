@@ -1,9 +1,21 @@
 package io.quarkus.calendars.service;
 
+import com.google.api.client.googleapis.GoogleUtils;
+import com.google.api.client.googleapis.batch.BatchRequest;
+import com.google.api.client.googleapis.batch.json.JsonBatchCallback;
 import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
-import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.googleapis.services.AbstractGoogleClientRequest;
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpRequestInitializer;
+import com.google.api.client.http.HttpResponseException;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.apache.v2.ApacheHttpTransport;
+import com.google.api.client.util.DateTime;
 import com.google.api.client.json.JsonFactory;
 import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.util.SslUtils;
 import com.google.api.services.calendar.Calendar;
 import com.google.api.services.calendar.CalendarScopes;
 import com.google.api.services.calendar.model.Event;
@@ -11,21 +23,44 @@ import com.google.api.services.calendar.model.Events;
 import com.google.auth.http.HttpCredentialsAdapter;
 import com.google.auth.oauth2.GoogleCredentials;
 import io.quarkus.calendars.config.GoogleCalendarConfig;
+import io.quarkus.calendars.model.ActionResult;
+import io.quarkus.calendars.model.ReconciliationAction;
+import io.quarkus.calendars.util.Constants;
+import io.quarkus.calendars.util.EventUtils;
 import io.quarkus.logging.Log;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import org.apache.http.client.HttpClient;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 
+import javax.net.ssl.SSLContext;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * Service for interacting with the Google Calendar API using a service account.
+ * <p>
+ * All requests go through an {@link AdaptiveConcurrencyLimiter}, which finds the highest concurrency the
+ * API sustains for the service account. Requests ask for partial, gzip-compressed responses holding only the
+ * fields this tool reads.
  */
 @ApplicationScoped
 public class GoogleCalendarService {
@@ -33,21 +68,86 @@ public class GoogleCalendarService {
     private static final JsonFactory JSON_FACTORY = GsonFactory.getDefaultInstance();
     private static final List<String> SCOPES = Collections.singletonList(CalendarScopes.CALENDAR_EVENTS);
 
+    /**
+     * Largest page size accepted by the Google Calendar API when listing events.
+     */
+    static final int MAX_PAGE_SIZE = 2500;
+
+    /**
+     * Largest number of requests the Google Calendar API accepts in a single batch request.
+     */
+    static final int MAX_BATCH_SIZE = 50;
+
+    /**
+     * Partial response for listings: the event fields read when reconciling, and the tokens to continue with.
+     * The status tells cancelled events apart in incremental syncs.
+     */
+    static final String LIST_FIELDS = "items(id,status,summary,description,location,hangoutLink,start,end,"
+            + "extendedProperties),nextPageToken,nextSyncToken";
+
+    /**
+     * Filter selecting the events created by this application, by their private extended property.
+     */
+    static final String MANAGED_FILTER = Constants.MANAGED_BY_PROPERTY + "=" + Constants.MANAGED_BY_VALUE;
+
+    /**
+     * Partial response for writes, whose response bodies are not used.
+     */
+    static final String WRITE_FIELDS = "id";
+
+    private static final Set<String> RATE_LIMIT_REASONS = Set.of("rateLimitExceeded", "userRateLimitExceeded");
+
     @Inject
     GoogleCalendarConfig config;
 
-    private Calendar calendarService;
+    private volatile Calendar calendarService;
+    private HttpTransport httpTransport;
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private RetryPolicy retryPolicy;
+    private volatile RetryBudget retryBudget;
+
+    @PostConstruct
+    void init() {
+        concurrencyLimiter = new AdaptiveConcurrencyLimiter(
+                config.concurrency().initialLimit(), config.concurrency().maxLimit());
+        retryPolicy = RetryPolicy.of(config.retry());
+        retryBudget = new RetryBudget(config.retry().budget());
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        if (httpTransport != null) {
+            httpTransport.shutdown();
+        }
+    }
 
+    /**
+     * Get the Google Calendar client, creating it on first use. The client and its transport are shared by
+     * all calendar operations, from any thread.
+     */
     public Calendar getCalendarService() throws GeneralSecurityException, IOException {
-        if (calendarService == null) {
-            calendarService = createCalendarService();
+        Calendar service = calendarService;
+        if (service == null) {
+            synchronized (this) {
+                service = calendarService;
+                if (service == null) {
+                    service = createCalendarService();
+                    calendarService = service;
+                }
+            }
         }
-        return calendarService;
+        return service;
     }
 
-    private Calendar createCalendarService() throws GeneralSecurityException, IOException {
-        final NetHttpTransport httpTransport = GoogleNetHttpTransport.newTrustedTransport();
+    /**
+     * Use the given client instead of creating one from the service account key, so that requests can be
+     * exercised against a stub transport.
+     */
+    void useCalendarService(Calendar service) {
+        calendarService = service;
+    }
 
+    private Calendar createCalendarService() throws GeneralSecurityException, IOException {
         String keyPath = config.serviceAccountKey();
         Path credentialsPath = Paths.get(keyPath);
 
@@ -61,44 +161,68 @@ public class GoogleCalendarService {
                     .createScoped(SCOPES);
         }
 
-        return new Calendar.Builder(httpTransport, JSON_FACTORY, new HttpCredentialsAdapter(credentials))
+        HttpRequestInitializer credentialsInitializer = new HttpCredentialsAdapter(credentials);
+        GoogleCalendarConfig.Transport transport = config.transport();
+        HttpRequestInitializer requestInitializer = request -> {
+            credentialsInitializer.initialize(request);
+            request.setConnectTimeout((int) transport.connectTimeout().toMillis());
+            request.setReadTimeout((int) transport.readTimeout().toMillis());
+        };
+
+        httpTransport = transport.pooled() ? createPooledTransport(transport) : GoogleNetHttpTransport.newTrustedTransport();
+        return new Calendar.Builder(httpTransport, JSON_FACTORY, requestInitializer)
                 .setApplicationName(config.applicationName())
+                .setGoogleClientRequestInitializer(request -> {
+                    // Compressed responses, and compressed request bodies for writes
+                    request.getRequestHeaders().setAcceptEncoding("gzip");
+                    request.setDisableGZipContent(false);
+                })
+                .build();
+    }
+
+    /**
+     * Create a transport keeping connections alive in a pool, so that requests do not pay for a TCP and TLS
+     * handshake each. A single TLS context trusting the Google certificates is shared by all connections, so
+     * that new connections resume earlier TLS sessions.
+     */
+    private static HttpTransport createPooledTransport(GoogleCalendarConfig.Transport transport)
+            throws GeneralSecurityException, IOException {
+        SSLContext sslContext = SslUtils.getTlsSslContext();
+        SslUtils.initSslContext(sslContext, GoogleUtils.getCertificateTrustStore(), SslUtils.getPkixTrustManagerFactory());
+
+        HttpClient client = ApacheHttpTransport.newDefaultHttpClientBuilder()
+                .setSSLSocketFactory(new SSLConnectionSocketFactory(sslContext))
+                .setMaxConnTotal(transport.maxConnections())
+                .setMaxConnPerRoute(transport.maxConnections())
+                .evictIdleConnections(transport.idleTimeout().toMillis(), TimeUnit.MILLISECONDS)
                 .build();
+        return new ApacheHttpTransport(client);
     }
 
     /**
-     * Test the connection to the Google Calendar API by fetching a small number of events
-     * from both calendars.
+     * Test the connection to the Google Calendar API by fetching a single event from each configured calendar.
      *
      * @return true if the connection is successful, false otherwise
      */
     public boolean testConnection() {
         try {
             Calendar service = getCalendarService();
-            String releasesCalendarId = getReleasesCalendarId();
-            String callCalendarId = getCallsCalendarId();
 
-            if (releasesCalendarId.isBlank()) {
-                Log.warn("Releases calendar ID is not configured");
-                return false;
-            }
+            for (String name : config.calendarNames()) {
+                String calendarId = getCalendarId(name);
+                if (calendarId.isBlank()) {
+                    Log.warnf("Calendar ID of %s is not configured", name);
+                    return false;
+                }
 
-            if (callCalendarId.isBlank()) {
-                Log.warn("Calls calendar ID is not configured");
-                return false;
+                Events events = executeWithRetry(service.events()
+                        .list(calendarId)
+                        .setMaxResults(1)
+                        .setFields("items(id)"));
+                // Partial responses leave out empty item lists
+                int found = events.getItems() != null ? events.getItems().size() : 0;
+                Log.infof("Successfully connected to calendar %s. Found %d event(s)", name, found);
             }
-
-            Events events1 = service.events()
-                    .list(releasesCalendarId)
-                    .setMaxResults(1)
-                    .execute();
-
-            Events events2 = service.events()
-                    .list(callCalendarId)
-                    .setMaxResults(1)
-                    .execute();
-
-            Log.infof("Successfully connected to calendar. Found %d events in the release calendar, and %d in the call calendar", events1.getItems().size(), events2.getItems().size());
             return true;
         } catch (Exception e) {
             Log.errorf(e, "Failed to connect to Google Calendar API");
@@ -118,16 +242,189 @@ public class GoogleCalendarService {
     public List<Event> listEvents(String calendarId, int maxResults) throws GeneralSecurityException, IOException {
         Calendar service = getCalendarService();
 
-        Events events = service.events()
+        Events events = executeWithRetry(service.events()
                 .list(calendarId)
                 .setMaxResults(maxResults)
                 .setOrderBy("startTime")
                 .setSingleEvents(true)
-                .execute();
+                .setFields(LIST_FIELDS));
 
         return events.getItems();
     }
 
+    /**
+     * List all events from the specified calendar within a date range, following every result page.
+     *
+     * @param calendarId the ID of the calendar to fetch events from
+     * @param startDate  the first day of the range (inclusive)
+     * @param endDate    the last day of the range (inclusive)
+     * @return the events, which may include events up to one day outside the range
+     * @throws GeneralSecurityException thrown if there is a security issue
+     * @throws IOException              thrown if there is an I/O issue
+     * @see #listEvents(String, LocalDate, LocalDate, Consumer)
+     */
+    public List<Event> listEvents(String calendarId, LocalDate startDate, LocalDate endDate)
+            throws GeneralSecurityException, IOException {
+        List<Event> events = new ArrayList<>();
+        listEvents(calendarId, startDate, endDate, events::addAll);
+        return events;
+    }
+
+    /**
+     * List all events from the specified calendar within a date range, handing over each result page as it
+     * arrives.
+     * <p>
+     * The range is sent to the server, so only the events it covers are downloaded, using the largest page
+     * size allowed. Event days depend on the time zone of each event, so the range is widened by one day on
+     * each side; callers only interested in the exact range filter the events on their date.
+     *
+     * @param calendarId the ID of the calendar to fetch events from
+     * @param startDate  the first day of the range (inclusive)
+     * @param endDate    the last day of the range (inclusive)
+     * @param pages      receives the events of each page, in start time order
+     * @throws GeneralSecurityException thrown if there is a security issue
+     * @throws IOException              thrown if there is an I/O issue
+     */
+    public void listEvents(String calendarId, LocalDate startDate, LocalDate endDate, Consumer<List<Event>> pages)
+            throws GeneralSecurityException, IOException {
+        listEvents(calendarId, startDate, endDate, LIST_FIELDS, null, pages);
+    }
+
+    /**
+     * List the events created by this application from the specified calendar within a date range.
+     * <p>
+     * Events are selected by the server on their {@code managedBy} private extended property, so events
+     * created by hand or by other tools are not downloaded at all. Like
+     * {@link #listEvents(String, LocalDate, LocalDate)}, the range is widened by one day on each side.
+     *
+     * @param calendarId the ID of the calendar to fetch events from
+     * @param startDate  the first day of the range (inclusive)
+     * @param endDate    the last day of the range (inclusive)
+     * @return list of managed events, in start time order
+     * @throws GeneralSecurityException thrown if there is a security issue
+     * @throws IOException              thrown if there is an I/O issue
+     */
+    public List<Event> listManagedEvents(String calendarId, LocalDate startDate, LocalDate endDate)
+            throws GeneralSecurityException, IOException {
+        List<Event> events = new ArrayList<>();
+        listManagedEvents(calendarId, startDate, endDate, events::addAll);
+        return events;
+    }
+
+    /**
+     * List the events created by this application from the specified calendar within a date range, handing
+     * over each result page as it arrives.
+     *
+     * @param calendarId the ID of the calendar to fetch events from
+     * @param startDate  the first day of the range (inclusive)
+     * @param endDate    the last day of the range (inclusive)
+     * @param pages      receives the managed events of each page, in start time order
+     * @throws GeneralSecurityException thrown if there is a security issue
+     * @throws IOException              thrown if there is an I/O issue
+     * @see #listManagedEvents(String, LocalDate, LocalDate)
+     */
+    public void listManagedEvents(String calendarId, LocalDate startDate, LocalDate endDate,
+                                  Consumer<List<Event>> pages) throws GeneralSecurityException, IOException {
+        listEvents(calendarId, startDate, endDate, LIST_FIELDS, MANAGED_FILTER, pages);
+    }
+
+    private void listEvents(String calendarId, LocalDate startDate, LocalDate endDate, String fields,
+                            String privateExtendedProperty, Consumer<List<Event>> pages)
+            throws GeneralSecurityException, IOException {
+        Calendar service = getCalendarService();
+
+        Calendar.Events.List request = service.events()
+                .list(calendarId)
+                .setTimeMin(startOfDay(startDate.minusDays(1)))
+                .setTimeMax(startOfDay(endDate.plusDays(2)))
+                .setMaxResults(MAX_PAGE_SIZE)
+                .setOrderBy("startTime")
+                .setSingleEvents(true)
+                .setFields(fields);
+        if (privateExtendedProperty != null) {
+            request.setPrivateExtendedProperty(List.of(privateExtendedProperty));
+        }
+
+        String pageToken = null;
+        do {
+            Events page = executeWithRetry(request.setPageToken(pageToken));
+            if (page.getItems() != null && !page.getItems().isEmpty()) {
+                pages.accept(page.getItems());
+            }
+            pageToken = page.getNextPageToken();
+        } while (pageToken != null);
+    }
+
+    /**
+     * Get the events of the specified calendar from its local mirror, fetching only the changes since the
+     * last sync.
+     * <p>
+     * The mirror and sync token are kept in the configured sync directory. Without a token, when the mirror
+     * does not reach back to the given day, or when the server rejects the token as expired (HTTP 410), the
+     * events from the day before the given one on are listed again. The end of the range is not bounded, so
+     * the mirror keeps covering the range as it moves forward in time.
+     *
+     * @param calendarId the ID of the calendar to sync
+     * @param startDate  the first day the mirror must cover
+     * @return the mirrored events, including any changed before the start date since the last full listing
+     * @throws GeneralSecurityException thrown if there is a security issue
+     * @throws IOException              thrown if there is an I/O issue
+     */
+    public List<Event> syncEvents(String calendarId, LocalDate startDate) throws GeneralSecurityException, IOException {
+        RemoteEventMirror mirror = RemoteEventMirror.open(Paths.get(config.sync().directory()), calendarId);
+        LocalDate listedFrom = startDate.minusDays(1);
+        if (!mirror.covers(listedFrom)) {
+            mirror.clear(listedFrom);
+        }
+        try {
+            sync(calendarId, mirror, listedFrom);
+        } catch (GoogleJsonResponseException e) {
+            if (e.getStatusCode() != 410 || mirror.syncToken() == null) {
+                throw e;
+            }
+            Log.infof("Sync token of calendar %s expired, running a full sync", calendarId);
+            mirror.clear(listedFrom);
+            sync(calendarId, mirror, listedFrom);
+        }
+        return mirror.events();
+    }
+
+    private void sync(String calendarId, RemoteEventMirror mirror, LocalDate listedFrom)
+            throws GeneralSecurityException, IOException {
+        Calendar service = getCalendarService();
+
+        Calendar.Events.List request = service.events()
+                .list(calendarId)
+                .setMaxResults(MAX_PAGE_SIZE)
+                .setSingleEvents(true)
+                .setFields(LIST_FIELDS);
+        if (mirror.syncToken() != null) {
+            // Sync tokens cannot be combined with a time range or ordering
+            request.setSyncToken(mirror.syncToken());
+        } else {
+            request.setTimeMin(startOfDay(listedFrom));
+        }
+
+        int changes = 0;
+        String pageToken = null;
+        Events page;
+        do {
+            page = executeWithRetry(request.setPageToken(pageToken));
+            if (page.getItems() != null) {
+                mirror.apply(page.getItems());
+                changes += page.getItems().size();
+            }
+            pageToken = page.getNextPageToken();
+        } while (pageToken != null);
+
+        Log.debugf("Synced %d change(s) from calendar %s", changes, calendarId);
+        mirror.save(page.getNextSyncToken());
+    }
+
+    private static DateTime startOfDay(LocalDate date) {
+        return new DateTime(date.atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli());
+    }
+
     /**
      * Create a new event in the specified calendar.
      *
@@ -139,9 +436,9 @@ public class GoogleCalendarService {
     public void createEvent(String calendarId, Event event) throws GeneralSecurityException, IOException {
         Calendar service = getCalendarService();
 
-        service.events()
+        execute(service.events()
                 .insert(calendarId, event)
-                .execute();
+                .setFields(WRITE_FIELDS));
     }
 
     /**
@@ -156,9 +453,26 @@ public class GoogleCalendarService {
     public void updateEvent(String calendarId, String eventId, Event event) throws GeneralSecurityException, IOException {
         Calendar service = getCalendarService();
 
-        service.events()
+        execute(service.events()
                 .update(calendarId, eventId, event)
-                .execute();
+                .setFields(WRITE_FIELDS));
+    }
+
+    /**
+     * Update some fields of an existing event in the specified calendar, leaving the others as they are.
+     *
+     * @param calendarId the ID of the calendar containing the event
+     * @param eventId    the ID of the event to update
+     * @param patch      the fields to set, other fields being {@code null}
+     * @throws GeneralSecurityException thrown if there is a security issue
+     * @throws IOException              thrown if there is an I/O issue
+     */
+    public void patchEvent(String calendarId, String eventId, Event patch) throws GeneralSecurityException, IOException {
+        Calendar service = getCalendarService();
+
+        execute(service.events()
+                .patch(calendarId, eventId, patch)
+                .setFields(WRITE_FIELDS));
     }
 
     /**
@@ -172,9 +486,238 @@ public class GoogleCalendarService {
     public void deleteEvent(String calendarId, String eventId) throws GeneralSecurityException, IOException {
         Calendar service = getCalendarService();
 
-        service.events()
-                .delete(calendarId, eventId)
-                .execute();
+        execute(service.events()
+                .delete(calendarId, eventId));
+    }
+
+    /**
+     * Execute create, update and delete actions in a single batch request.
+     * <p>
+     * Each action is a separate request within the batch and succeeds or fails on its own. If the batch
+     * request itself fails, all actions without a result are reported as failed, with the status of the batch
+     * response. Actions the response did not answer are reported as failed and retryable.
+     *
+     * @param actions at most {@link #MAX_BATCH_SIZE} write actions
+     * @return the result of each action, in the order of the actions
+     */
+    public List<ActionResult> executeBatch(List<ReconciliationAction> actions) {
+        if (actions.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " actions per batch, got " + actions.size());
+        }
+        ActionResult[] results = new ActionResult[actions.size()];
+        AtomicBoolean rateLimited = new AtomicBoolean();
+        try {
+            Calendar service = getCalendarService();
+            BatchRequest batch = service.batch();
+            for (int i = 0; i < actions.size(); i++) {
+                ReconciliationAction action = actions.get(i);
+                switch (action.getType()) {
+                    case CREATE -> service.events()
+                            .insert(action.getCalendarId(),
+                                    EventUtils.toGoogleEvent(action.getLocalEvent()).setId(action.getEventId()))
+                            .setFields(WRITE_FIELDS)
+                            .queue(batch, callback(action, results, i, rateLimited));
+                    case UPDATE -> service.events()
+                            .patch(action.getCalendarId(), action.getEventId(), EventUtils.toGoogleEventPatch(
+                                    action.getLocalEvent(), action.getChangedFields(), action.getRemoteEvent()))
+                            .setFields(WRITE_FIELDS)
+                            .queue(batch, callback(action, results, i, rateLimited));
+                    case DELETE -> service.events()
+                            .delete(action.getCalendarId(), action.getEventId())
+                            .queue(batch, callback(action, results, i, rateLimited));
+                    case WARN_ORPHAN -> results[i] = ActionResult.success(action);
+                }
+            }
+            if (batch.size() > 0) {
+                // The whole batch counts as one request, slowed down if any of its parts was rate limited
+                limited("batch/" + batch.size(), () -> {
+                    batch.execute();
+                    return rateLimited.get();
+                }, Boolean::booleanValue);
+            }
+            // Parts the response did not answer may or may not have been applied
+            failRemaining(actions, results, 0, "No response in batch", true, null);
+        } catch (HttpResponseException e) {
+            // The batch endpoint answers with a plain error, parts with JSON errors
+            Log.errorf("Batch request failed: %s", e.getMessage());
+            GoogleJsonError details = e instanceof GoogleJsonResponseException response ? response.getDetails() : null;
+            failRemaining(actions, results, e.getStatusCode(), e.getMessage(),
+                    RetryPolicy.isRetryable(e.getStatusCode(), details), RetryPolicy.retryAfter(e.getHeaders()));
+        } catch (IOException e) {
+            Log.errorf("Batch request failed: %s", e.getMessage());
+            // Timeouts are transient too, only an interrupt is final
+            failRemaining(actions, results, 0, e.getMessage(), !Thread.currentThread().isInterrupted(), null);
+        } catch (GeneralSecurityException e) {
+            Log.errorf(e, "Batch request failed");
+            failRemaining(actions, results, 0, e.getMessage(), false, null);
+        }
+        return List.of(results);
+    }
+
+    private static <T> JsonBatchCallback<T> callback(ReconciliationAction action, ActionResult[] results, int index,
+                                                     AtomicBoolean rateLimited) {
+        return new JsonBatchCallback<>() {
+            @Override
+            public void onSuccess(T result, HttpHeaders responseHeaders) {
+                results[index] = ActionResult.success(action);
+            }
+
+            @Override
+            public void onFailure(GoogleJsonError error, HttpHeaders responseHeaders) {
+                if (isRateLimited(error.getCode(), error)) {
+                    rateLimited.set(true);
+                }
+                results[index] = ActionResult.failure(action, error.getCode(), error.getMessage(),
+                        RetryPolicy.isRetryable(error.getCode(), error), RetryPolicy.retryAfter(responseHeaders));
+            }
+        };
+    }
+
+    private static void failRemaining(List<ReconciliationAction> actions, ActionResult[] results, int statusCode,
+                                      String error, boolean retryable, Duration retryAfter) {
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == null) {
+                results[i] = ActionResult.failure(actions.get(i), statusCode, error, retryable, retryAfter);
+            }
+        }
+    }
+
+    /**
+     * Get the retry policy for requests to the Google Calendar API.
+     */
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * Get the retry budget of the current run, shared by reads and writes of all calendars.
+     */
+    public RetryBudget getRetryBudget() {
+        return retryBudget;
+    }
+
+    /**
+     * Start a new run with the full retry budget. Requests still running keep the budget they started with.
+     */
+    public void resetRetryBudget() {
+        retryBudget = new RetryBudget(config.retry().budget());
+    }
+
+    /**
+     * Execute a read request, retrying transient failures. Writes are retried by the {@link ActionExecutor},
+     * which knows which of them can safely be repeated.
+     */
+    private <T> T executeWithRetry(AbstractGoogleClientRequest<T> request) throws IOException {
+        RetryPolicy policy = getRetryPolicy();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return execute(request);
+            } catch (IOException e) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw e;
+                }
+                int statusCode = e instanceof GoogleJsonResponseException response ? response.getStatusCode() : 0;
+                GoogleJsonError details = e instanceof GoogleJsonResponseException response ? response.getDetails() : null;
+                if (attempt >= policy.maxAttempts() || !RetryPolicy.isRetryable(statusCode, details)) {
+                    throw e;
+                }
+                if (!getRetryBudget().tryAcquire()) {
+                    Log.warnf("Retry budget exhausted, not retrying request after: %s", e.getMessage());
+                    throw e;
+                }
+                Duration delay = policy.backoff(attempt,
+                        e instanceof GoogleJsonResponseException response ? RetryPolicy.retryAfter(response.getHeaders()) : null);
+                Log.debugf("Retrying request in %d ms after: %s", delay.toMillis(), e.getMessage());
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting to retry");
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the limiter shared by all requests to the Google Calendar API.
+     */
+    public AdaptiveConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
+    private <T> T execute(AbstractGoogleClientRequest<T> request) throws IOException {
+        // Listings take longer with larger pages, other requests hold a single event
+        String kind = request instanceof Calendar.Events.List list
+                ? "list/" + list.getMaxResults()
+                : request.getRequestMethod();
+        return limited(kind, request::execute, result -> false);
+    }
+
+    /**
+     * Run a request within the concurrency limit, adapting the limit to its latency and outcome.
+     *
+     * @param kind the kind of request, whose latency is compared with earlier requests of the same kind
+     */
+    private <T> T limited(String kind, ApiCall<T> call, Predicate<T> rateLimited) throws IOException {
+        AdaptiveConcurrencyLimiter limiter = getConcurrencyLimiter();
+        try {
+            limiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a request slot");
+        }
+        long start = System.nanoTime();
+        try {
+            T result = call.execute();
+            if (rateLimited.test(result)) {
+                limiter.onRateLimited();
+            } else {
+                limiter.onSuccess(kind, System.nanoTime() - start);
+            }
+            return result;
+        } catch (HttpResponseException e) {
+            GoogleJsonError details = e instanceof GoogleJsonResponseException response ? response.getDetails() : null;
+            if (isRateLimited(e.getStatusCode(), details)) {
+                limiter.onRateLimited();
+            } else {
+                limiter.onIgnore();
+            }
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            limiter.onIgnore();
+            throw e;
+        }
+    }
+
+    /**
+     * Whether an error response rejects a request because of rate limiting: 429, or 403 with a
+     * {@code rateLimitExceeded} or {@code userRateLimitExceeded} reason.
+     */
+    static boolean isRateLimited(int statusCode, GoogleJsonError details) {
+        if (statusCode == 429) {
+            return true;
+        }
+        if (statusCode != 403 || details == null || details.getErrors() == null) {
+            return false;
+        }
+        return details.getErrors().stream()
+                .anyMatch(error -> RATE_LIMIT_REASONS.contains(error.getReason()));
+    }
+
+    @FunctionalInterface
+    private interface ApiCall<T> {
+        T execute() throws IOException;
+    }
+
+    /**
+     * Get the ID of a configured calendar.
+     *
+     * @param name the name of the calendar in the configuration, e.g. {@code releases}
+     * @return the calendar ID, or an empty string if the calendar or its ID is not configured
+     */
+    public String getCalendarId(String name) {
+        GoogleCalendarConfig.Calendar calendar = config.calendars().get(name);
+        return calendar != null ? calendar.id().orElse("") : "";
     }
 
     /**
@@ -183,7 +726,7 @@ public class GoogleCalendarService {
      * @return the releases calendar ID, or an empty string if not configured
      */
     public String getReleasesCalendarId() {
-        return config.calendars().releases().id().orElse("");
+        return getCalendarId("releases");
     }
 
     /**
@@ -192,6 +735,6 @@ public class GoogleCalendarService {
      * @return the calls calendar ID, or an empty string if not configured
      */
     public String getCallsCalendarId() {
-        return config.calendars().calls().id().orElse("");
+        return getCalendarId("calls");
     }
 }
@@ -3,32 +3,37 @@ package io.quarkus.calendars.service;
 import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
 import io.quarkus.calendars.model.CallEvent;
 import io.quarkus.calendars.model.Event;
+import io.quarkus.calendars.model.ImmutableEvent;
 import io.quarkus.calendars.model.ReleaseEvent;
-import io.quarkus.logging.Log;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
-import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
 
 /**
  * Service for loading events from YAML files on the filesystem.
+ * <p>
+ * Files are read through the {@link EventCatalog}, so each file is parsed at most once per process.
+ * The typed methods return mutable copies; {@link #loadEvents} and {@link #streamEvents} return the shared
+ * {@link ImmutableEvent} instances.
  */
 @ApplicationScoped
 public class LocalEventLoader {
 
     private final String releasesDirectory;
     private final String callsDirectory;
+    private final int parallelism;
+    private final Path cacheDirectory;
 
     @Inject
     YAMLMapper yamlMapper;
 
+    @Inject
+    EventCatalog catalog;
+
     /**
      * Default constructor using standard directories, used by CDI.
      */
@@ -37,82 +42,119 @@ public class LocalEventLoader {
     }
 
     public LocalEventLoader(String releasesDirectory, String callsDirectory) {
+        this(releasesDirectory, callsDirectory, EventCatalog.DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * Create a loader parsing up to {@code parallelism} files concurrently.
+     * A parallelism of 1 loads the files sequentially.
+     */
+    public LocalEventLoader(String releasesDirectory, String callsDirectory, int parallelism) {
+        this(releasesDirectory, callsDirectory, parallelism, null);
+    }
+
+    /**
+     * Create a loader caching parsed events in {@code cacheDirectory}, or not at all if it is {@code null}.
+     * <p>
+     * The parallelism and cache directory only apply to loaders created outside CDI, which use their own
+     * {@link EventCatalog}. Injected loaders share the application catalog and its configuration.
+     */
+    public LocalEventLoader(String releasesDirectory, String callsDirectory, int parallelism, Path cacheDirectory) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1, got " + parallelism);
+        }
         this.releasesDirectory = releasesDirectory;
         this.callsDirectory = callsDirectory;
+        this.parallelism = parallelism;
+        this.cacheDirectory = cacheDirectory;
     }
 
     /**
      * Load all release events from the releases directory.
      */
     public List<ReleaseEvent> loadReleaseEvents() {
-        return loadEvents(releasesDirectory, ReleaseEvent.class);
+        return copies(loadEvents(ImmutableEvent.Kind.RELEASE, null, null), ReleaseEvent.class);
     }
 
     /**
      * Load all call events from the calls directory.
      */
     public List<CallEvent> loadCallEvents() {
-        return loadEvents(callsDirectory, CallEvent.class);
+        return copies(loadEvents(ImmutableEvent.Kind.CALL, null, null), CallEvent.class);
     }
 
     /**
      * Load all release events within a date range.
+     * Files indexed with a date outside the range are skipped without being opened.
      */
     public List<ReleaseEvent> loadReleaseEvents(LocalDate startDate, LocalDate endDate) {
-        return loadReleaseEvents().stream()
-                .filter(event -> isInDateRange(event.getDate(), startDate, endDate))
-                .toList();
+        return copies(loadEvents(ImmutableEvent.Kind.RELEASE, startDate, endDate), ReleaseEvent.class);
     }
 
     /**
      * Load all call events within a date range.
+     * Files indexed with a date outside the range are skipped without being opened.
      */
     public List<CallEvent> loadCallEvents(LocalDate startDate, LocalDate endDate) {
-        return loadCallEvents().stream()
-                .filter(event -> isInDateRange(event.getDate(), startDate, endDate))
-                .toList();
+        return copies(loadEvents(ImmutableEvent.Kind.CALL, startDate, endDate), CallEvent.class);
     }
 
-    private <T extends Event> List<T> loadEvents(String directory, Class<T> eventClass) {
-        Path dir = Paths.get(directory);
+    /**
+     * Load the events of the given kind within a date range, or all of them if a bound is {@code null},
+     * sorted by date. The events are shared, unlike the mutable copies returned by the typed methods.
+     */
+    public List<ImmutableEvent> loadEvents(ImmutableEvent.Kind kind, LocalDate startDate, LocalDate endDate) {
+        return catalog().events(directory(kind), kind, startDate, endDate);
+    }
 
-        if (!Files.exists(dir)) {
-            return List.of();
-        }
+    /**
+     * Load the events of the given kind from the given directory, like
+     * {@link #loadEvents(ImmutableEvent.Kind, LocalDate, LocalDate)}.
+     */
+    public List<ImmutableEvent> loadEvents(String directory, ImmutableEvent.Kind kind, LocalDate startDate,
+                                           LocalDate endDate) {
+        return catalog().events(directory, kind, startDate, endDate);
+    }
 
-        List<T> events = new ArrayList<>();
-
-        try (Stream<Path> paths = Files.walk(dir)) {
-            List<Path> yamlFiles = paths
-                    .filter(Files::isRegularFile)
-                    .filter(path -> path.toString().endsWith(".yaml") || path.toString().endsWith(".yml"))
-                    .toList();
-
-            for (Path yamlFile : yamlFiles) {
-                try {
-                    Event event = yamlMapper.readValue(yamlFile.toFile(), Event.class);
-
-                    if (eventClass.isInstance(event)) {
-                        event.validate();
-                        events.add(eventClass.cast(event));
-                    }
-                } catch (IOException e) {
-                    Log.warnf(e, "Failed to load event from %s", yamlFile);
-                } catch (IllegalArgumentException e) {
-                    Log.warnf(e, "Validation failed for %s", yamlFile);
-                }
-            }
-        } catch (IOException e) {
-            Log.warnf(e, "Failed to read directory %s", directory);
-        }
+    /**
+     * Lazily stream the release events within a date range, in directory order.
+     * Files are parsed as the stream is consumed; close the stream when done.
+     */
+    public Stream<ReleaseEvent> streamReleaseEvents(LocalDate startDate, LocalDate endDate) {
+        return streamEvents(ImmutableEvent.Kind.RELEASE, startDate, endDate)
+                .map(event -> ReleaseEvent.class.cast(event.toEvent()));
+    }
+
+    /**
+     * Lazily stream the call events within a date range, in directory order.
+     * Files are parsed as the stream is consumed; close the stream when done.
+     */
+    public Stream<CallEvent> streamCallEvents(LocalDate startDate, LocalDate endDate) {
+        return streamEvents(ImmutableEvent.Kind.CALL, startDate, endDate)
+                .map(event -> CallEvent.class.cast(event.toEvent()));
+    }
+
+    /**
+     * Lazily stream the events of the given kind within a date range, in directory order.
+     * Files are parsed as the stream is consumed; close the stream when done.
+     */
+    public Stream<ImmutableEvent> streamEvents(ImmutableEvent.Kind kind, LocalDate startDate, LocalDate endDate) {
+        return catalog().stream(directory(kind), kind, startDate, endDate);
+    }
 
-        // Sort events by date
-        events.sort((e1, e2) -> e1.getDate().compareTo(e2.getDate()));
+    private String directory(ImmutableEvent.Kind kind) {
+        return kind == ImmutableEvent.Kind.CALL ? callsDirectory : releasesDirectory;
+    }
 
-        return events;
+    private static <T extends Event> List<T> copies(List<ImmutableEvent> events, Class<T> eventClass) {
+        return events.stream().map(event -> eventClass.cast(event.toEvent())).toList();
     }
 
-    private boolean isInDateRange(LocalDate date, LocalDate startDate, LocalDate endDate) {
-        return !date.isBefore(startDate) && !date.isAfter(endDate);
+    private synchronized EventCatalog catalog() {
+        if (catalog == null) {
+            // Created outside CDI
+            catalog = new EventCatalog(yamlMapper, parallelism, cacheDirectory);
+        }
+        return catalog;
     }
 }
@@ -0,0 +1,132 @@
+package io.quarkus.calendars.service;
+
+import com.google.api.services.calendar.model.Event;
+import io.quarkus.calendars.model.ImmutableEvent;
+import io.quarkus.calendars.model.ReconciliationAction;
+import io.quarkus.calendars.util.EventUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * Merge-join diff of one calendar: remote events are fed page by page, in start time order, and compared
+ * with the local events one day at a time.
+ * <p>
+ * A day is closed once the remote listing has moved two days past it, as an event listed later may still
+ * start up to a day earlier in its own time zone. Only the remote events of the open days are held, and the
+ * actions of each closed day are handed to the sink right away. The local events must be sorted by date, as
+ * loaded from the {@link EventCatalog}.
+ * <p>
+ * Not thread-safe: pages are fed from a single thread.
+ */
+class MergeDiff {
+
+    private final Iterator<ImmutableEvent> locals;
+    private ImmutableEvent nextLocal;
+    private final long startDay;
+    private final long endDay;
+    private final DayDiff dayDiff;
+    private final Consumer<List<ReconciliationAction>> sink;
+    private final TreeMap<Long, List<Event>> openDays = new TreeMap<>();
+    private long lastSeenDay = Long.MIN_VALUE;
+    private long closedThrough = Long.MIN_VALUE;
+
+    /**
+     * Computes the actions reconciling the local and remote events of a single day.
+     */
+    @FunctionalInterface
+    interface DayDiff {
+
+        /**
+         * @param epochDay the day, shared by all given events
+         */
+        List<ReconciliationAction> diff(long epochDay, List<ImmutableEvent> localEvents, List<Event> remoteEvents);
+    }
+
+    /**
+     * @param localEvents the local events of the range, sorted by date
+     * @param startDate   the first day to reconcile; remote events outside the range are skipped
+     * @param endDate     the last day to reconcile
+     * @param dayDiff     the actions reconciling the local and remote events of a single day
+     * @param sink        receives the non-empty actions of each day, in date order
+     */
+    MergeDiff(List<ImmutableEvent> localEvents, LocalDate startDate, LocalDate endDate,
+              DayDiff dayDiff,
+              Consumer<List<ReconciliationAction>> sink) {
+        this.locals = localEvents.iterator();
+        this.nextLocal = locals.hasNext() ? locals.next() : null;
+        this.startDay = startDate.toEpochDay();
+        this.endDay = endDate.toEpochDay();
+        this.dayDiff = dayDiff;
+        this.sink = sink;
+    }
+
+    /**
+     * Add a page of remote events, and diff the days the listing has moved past.
+     *
+     * @throws IllegalStateException if an event starts on a day that was already closed
+     */
+    void accept(List<Event> page) {
+        for (Event event : page) {
+            long day = EventUtils.extractDate(event).toEpochDay();
+            if (day < startDay || day > endDay) {
+                // The listing is widened by a day for time zones
+                continue;
+            }
+            if (day <= closedThrough) {
+                throw new IllegalStateException("Remote event " + event.getId() + " on " + LocalDate.ofEpochDay(day)
+                        + " listed after that day was reconciled, events are not in start time order");
+            }
+            openDays.computeIfAbsent(day, d -> new ArrayList<>()).add(event);
+            lastSeenDay = Math.max(lastSeenDay, day);
+        }
+        if (lastSeenDay != Long.MIN_VALUE) {
+            closeThrough(lastSeenDay - 2);
+        }
+    }
+
+    /**
+     * Diff the remaining days, once all remote events were added.
+     */
+    void finish() {
+        closeThrough(Long.MAX_VALUE);
+    }
+
+    /**
+     * The number of remote events held for days not diffed yet.
+     */
+    int pendingRemoteEvents() {
+        return openDays.values().stream().mapToInt(List::size).sum();
+    }
+
+    private void closeThrough(long lastDay) {
+        while (true) {
+            Map.Entry<Long, List<Event>> firstOpen = openDays.firstEntry();
+            long day = Math.min(nextLocal != null ? nextLocal.getEpochDay() : Long.MAX_VALUE,
+                    firstOpen != null ? firstOpen.getKey() : Long.MAX_VALUE);
+            if (day == Long.MAX_VALUE || day > lastDay) {
+                break;
+            }
+
+            List<ImmutableEvent> dayLocals = new ArrayList<>();
+            while (nextLocal != null && nextLocal.getEpochDay() == day) {
+                dayLocals.add(nextLocal);
+                nextLocal = locals.hasNext() ? locals.next() : null;
+            }
+            List<Event> dayRemotes = firstOpen != null && firstOpen.getKey() == day
+                    ? openDays.pollFirstEntry().getValue()
+                    : List.of();
+
+            List<ReconciliationAction> actions = dayDiff.diff(day, dayLocals, dayRemotes);
+            if (!actions.isEmpty()) {
+                sink.accept(actions);
+            }
+        }
+        closedThrough = Math.max(closedThrough, lastDay);
+    }
+}
@@ -0,0 +1,144 @@
+package io.quarkus.calendars.service;
+
+import com.google.api.client.json.JsonFactory;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.services.calendar.model.Event;
+import com.google.api.services.calendar.model.Events;
+import io.quarkus.logging.Log;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Local copy of the events of a remote calendar, kept up to date with incremental syncs.
+ * <p>
+ * The mirror is stored as a JSON file holding the events, the sync token to request the next changes
+ * with, and the first day the full listing covered. A missing or unreadable file yields an empty mirror
+ * without a token, which leads to a full sync, so the file can be deleted at any time.
+ */
+final class RemoteEventMirror {
+
+    private static final JsonFactory JSON_FACTORY = GsonFactory.getDefaultInstance();
+    private static final String CANCELLED = "cancelled";
+    private static final String COVERED_FROM = "coveredFrom";
+
+    private final Path file;
+    private final Map<String, Event> events;
+    private String syncToken;
+    private LocalDate coveredFrom;
+
+    private RemoteEventMirror(Path file, Map<String, Event> events, String syncToken, LocalDate coveredFrom) {
+        this.file = file;
+        this.events = events;
+        this.syncToken = syncToken;
+        this.coveredFrom = coveredFrom;
+    }
+
+    /**
+     * Open the mirror of a calendar, reading any existing state file.
+     *
+     * @param directory  the directory holding the state files
+     * @param calendarId the ID of the mirrored calendar
+     * @return the mirror, empty if no usable state exists
+     */
+    static RemoteEventMirror open(Path directory, String calendarId) {
+        String name = calendarId.replaceAll("[^A-Za-z0-9._-]", "_");
+        Path file = directory.resolve(name + ".json");
+        Map<String, Event> events = new LinkedHashMap<>();
+        if (!Files.exists(file)) {
+            return new RemoteEventMirror(file, events, null, null);
+        }
+        try (InputStream in = Files.newInputStream(file)) {
+            Events state = JSON_FACTORY.fromInputStream(in, StandardCharsets.UTF_8, Events.class);
+            if (state.getItems() != null) {
+                for (Event event : state.getItems()) {
+                    events.put(event.getId(), event);
+                }
+            }
+            Object coveredFrom = state.get(COVERED_FROM);
+            return new RemoteEventMirror(file, events, state.getNextSyncToken(),
+                    coveredFrom != null ? LocalDate.parse(coveredFrom.toString()) : null);
+        } catch (IOException | RuntimeException e) {
+            Log.warnf(e, "Ignoring unreadable sync state %s, running a full sync", file);
+            return new RemoteEventMirror(file, new LinkedHashMap<>(), null, null);
+        }
+    }
+
+    /**
+     * The token to request the changes since the last sync with, or {@code null} for a full sync.
+     */
+    String syncToken() {
+        return syncToken;
+    }
+
+    /**
+     * Whether the mirror holds all events from the given day on. Events before the first day of the full
+     * listing are only known if they changed since.
+     */
+    boolean covers(LocalDate startDate) {
+        return syncToken != null && coveredFrom != null && !coveredFrom.isAfter(startDate);
+    }
+
+    /**
+     * Apply changed events: cancelled events are removed, others are added or replaced.
+     */
+    void apply(List<Event> changes) {
+        for (Event event : changes) {
+            if (CANCELLED.equals(event.getStatus())) {
+                events.remove(event.getId());
+            } else {
+                events.put(event.getId(), event);
+            }
+        }
+    }
+
+    /**
+     * Drop all events and the sync token, before a full sync listing the events from the given day on.
+     */
+    void clear(LocalDate coveredFrom) {
+        events.clear();
+        syncToken = null;
+        this.coveredFrom = coveredFrom;
+    }
+
+    /**
+     * The mirrored events.
+     */
+    List<Event> events() {
+        return new ArrayList<>(events.values());
+    }
+
+    /**
+     * Record the token of the completed sync and write the state file. Failures are logged and otherwise
+     * ignored, the next run then starts with a full sync.
+     */
+    void save(String nextSyncToken) {
+        syncToken = nextSyncToken;
+        Events state = new Events()
+                .setItems(new ArrayList<>(events.values()))
+                .setNextSyncToken(nextSyncToken);
+        if (coveredFrom != null) {
+            state.set(COVERED_FROM, coveredFrom.toString());
+        }
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                out.write(JSON_FACTORY.toByteArray(state));
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Log.warnf(e, "Failed to write sync state %s", file);
+        }
+    }
+}
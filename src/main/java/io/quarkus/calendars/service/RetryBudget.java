@@ -0,0 +1,38 @@
+package io.quarkus.calendars.service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caps the number of retries of a reconciliation run, so that a prolonged outage fails fast instead of
+ * multiplying the load on the API.
+ * <p>
+ * A single budget is shared by the reads and writes of all calendars reconciled in the run, whichever
+ * thread they run on.
+ */
+public class RetryBudget {
+
+    private final AtomicInteger remaining;
+
+    public RetryBudget(int retries) {
+        if (retries < 0) {
+            throw new IllegalArgumentException("Retry budget must not be negative, got " + retries);
+        }
+        this.remaining = new AtomicInteger(retries);
+    }
+
+    /**
+     * Take one retry from the budget.
+     *
+     * @return whether the budget allowed the retry
+     */
+    public boolean tryAcquire() {
+        return remaining.getAndUpdate(retries -> Math.max(0, retries - 1)) > 0;
+    }
+
+    /**
+     * The number of retries left.
+     */
+    public int remaining() {
+        return remaining.get();
+    }
+}
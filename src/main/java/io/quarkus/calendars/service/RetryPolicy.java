@@ -0,0 +1,95 @@
+package io.quarkus.calendars.service;
+
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.http.HttpHeaders;
+import io.quarkus.calendars.config.GoogleCalendarConfig;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides which failed requests are retried, and how long to wait before retrying them.
+ * <p>
+ * Failures without a response, timeouts, rate limiting and server errors are transient. Delays grow
+ * exponentially with random jitter, capped at the maximum backoff, and never undercut a {@code Retry-After}
+ * sent by the server.
+ */
+public class RetryPolicy {
+
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    public RetryPolicy(int maxAttempts, Duration initialBackoff, Duration maxBackoff) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Max attempts must be at least 1, got " + maxAttempts);
+        }
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    static RetryPolicy of(GoogleCalendarConfig.Retry config) {
+        return new RetryPolicy(config.maxAttempts(), config.initialBackoff(), config.maxBackoff());
+    }
+
+    /**
+     * The number of attempts per request, including the first one.
+     */
+    public int maxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Whether a failure is transient and worth retrying.
+     *
+     * @param statusCode the HTTP status code, or 0 if the request got no response
+     * @param details    the error details, if any
+     */
+    public static boolean isRetryable(int statusCode, GoogleJsonError details) {
+        return switch (statusCode) {
+            case 0, 408, 429, 500, 502, 503, 504 -> true;
+            case 403 -> GoogleCalendarService.isRateLimited(statusCode, details);
+            default -> false;
+        };
+    }
+
+    /**
+     * The delay before the given retry.
+     *
+     * @param retry      the number of the retry, starting at 1
+     * @param retryAfter the delay requested by the server, or {@code null}
+     */
+    public Duration backoff(int retry, Duration retryAfter) {
+        long cap = initialBackoff.toMillis() << Math.min(retry - 1, 20);
+        long ceiling = Math.min(maxBackoff.toMillis(), Math.max(cap, 1));
+        Duration jittered = Duration.ofMillis(ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1));
+        return retryAfter != null && retryAfter.compareTo(jittered) > 0 ? retryAfter : jittered;
+    }
+
+    /**
+     * Read the {@code Retry-After} header, given in seconds or as an HTTP date.
+     *
+     * @return the requested delay, or {@code null} if absent or unreadable
+     */
+    public static Duration retryAfter(HttpHeaders headers) {
+        String value = headers != null ? headers.getRetryAfter() : null;
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException e) {
+            try {
+                Duration delay = Duration.between(ZonedDateTime.now(),
+                        ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+                return delay.isNegative() ? Duration.ZERO : delay;
+            } catch (DateTimeParseException ignored) {
+                return null;
+            }
+        }
+    }
+}
@@ -1,9 +1,15 @@
 package io.quarkus.calendars.util;
 
 import com.google.api.services.calendar.model.EventDateTime;
+import com.google.api.client.util.Data;
+import io.quarkus.calendars.model.EventField;
+import io.quarkus.calendars.model.ImmutableEvent;
 
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * Utility methods for working with calendar events.
@@ -30,4 +36,131 @@ public final class EventUtils {
 
         throw new IllegalArgumentException("No date found for event: " + event.getSummary());
     }
+
+    /**
+     * Generate a random event ID, in the base32hex alphabet (digits and letters a-v) required by Google
+     * Calendar for IDs chosen by the client.
+     */
+    public static String newEventId() {
+        UUID uuid = UUID.randomUUID();
+        StringBuilder id = new StringBuilder(26);
+        appendBase32Hex(id, uuid.getMostSignificantBits());
+        appendBase32Hex(id, uuid.getLeastSignificantBits());
+        return id.toString();
+    }
+
+    private static void appendBase32Hex(StringBuilder id, long bits) {
+        // 13 digits of 5 bits cover the 64 bits
+        for (int shift = 60; shift >= 0; shift -= 5) {
+            id.append(Character.forDigit((int) ((bits >>> shift) & 0x1f), 32));
+        }
+    }
+
+    /**
+     * Convert a local event to a Google Calendar event, marked as managed by this tool.
+     */
+    public static com.google.api.services.calendar.model.Event toGoogleEvent(ImmutableEvent localEvent) {
+        com.google.api.services.calendar.model.Event googleEvent =
+            new com.google.api.services.calendar.model.Event();
+
+        googleEvent.setSummary(localEvent.getTitle());
+        googleEvent.setDescription(localEvent.getDescription());
+
+        // Mark event as managed by this tool using extended properties
+        com.google.api.services.calendar.model.Event.ExtendedProperties extendedProperties =
+            new com.google.api.services.calendar.model.Event.ExtendedProperties();
+        extendedProperties.setPrivate(Map.of(Constants.MANAGED_BY_PROPERTY, Constants.MANAGED_BY_VALUE));
+        googleEvent.setExtendedProperties(extendedProperties);
+
+        if (localEvent.getKind() == ImmutableEvent.Kind.RELEASE) {
+            // All-day event
+            EventDateTime start = new EventDateTime();
+            start.setDate(new com.google.api.client.util.DateTime(
+                localEvent.getDate().toString()
+            ));
+            googleEvent.setStart(start);
+
+            EventDateTime end = new EventDateTime();
+            end.setDate(new com.google.api.client.util.DateTime(
+                localEvent.getDate().toString()
+            ));
+            googleEvent.setEnd(end);
+
+        } else {
+            // Timed event
+            ZonedDateTime startTime = ZonedDateTime.of(
+                localEvent.getDate(),
+                localEvent.getTime(),
+                Constants.UTC
+            );
+
+            EventDateTime start = new EventDateTime();
+            start.setDateTime(new com.google.api.client.util.DateTime(
+                startTime.toInstant().toEpochMilli()
+            ));
+            start.setTimeZone("UTC");
+            googleEvent.setStart(start);
+
+            ZonedDateTime endTime = startTime.plus(localEvent.getDuration());
+            EventDateTime end = new EventDateTime();
+            end.setDateTime(new com.google.api.client.util.DateTime(
+                endTime.toInstant().toEpochMilli()
+            ));
+            end.setTimeZone("UTC");
+            googleEvent.setEnd(end);
+
+            // Add call link to description or location
+            if (localEvent.getCallLink() != null) {
+                String description = googleEvent.getDescription();
+                if (description == null) {
+                    description = "";
+                }
+                description += "\n\nJoin: " + localEvent.getCallLink();
+                googleEvent.setDescription(description);
+            }
+        }
+
+        return googleEvent;
+    }
+
+    /**
+     * Build a partial Google Calendar event holding only the given fields of a local event, for a patch.
+     * The marker of events managed by this tool is included when the remote event lacks it.
+     */
+    public static com.google.api.services.calendar.model.Event toGoogleEventPatch(
+            ImmutableEvent localEvent, Set<EventField> fields, com.google.api.services.calendar.model.Event remoteEvent) {
+        com.google.api.services.calendar.model.Event full = toGoogleEvent(localEvent);
+        com.google.api.services.calendar.model.Event patch = new com.google.api.services.calendar.model.Event();
+
+        for (EventField field : fields) {
+            switch (field) {
+                // Null values are left out of requests, an explicit null clears the field
+                case DESCRIPTION -> patch.setDescription(
+                    full.getDescription() != null ? full.getDescription() : Data.NULL_STRING);
+                case START -> patch.setStart(full.getStart());
+                case END -> patch.setEnd(full.getEnd());
+            }
+        }
+        if (!isManagedByUs(remoteEvent)) {
+            patch.setExtendedProperties(full.getExtendedProperties());
+        }
+
+        return patch;
+    }
+
+    /**
+     * Check if a remote event was created and is managed by this tool.
+     */
+    public static boolean isManagedByUs(com.google.api.services.calendar.model.Event event) {
+        if (event.getExtendedProperties() == null) {
+            return false;
+        }
+
+        var privateProps = event.getExtendedProperties().getPrivate();
+        if (privateProps == null) {
+            return false;
+        }
+
+        return Constants.MANAGED_BY_VALUE.equals(privateProps.get(Constants.MANAGED_BY_PROPERTY));
+    }
 }
@@ -0,0 +1,73 @@
+package io.quarkus.calendars.config;
+
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import io.quarkus.calendars.model.CallEvent;
+import io.quarkus.calendars.model.Event;
+import io.quarkus.calendars.model.ReleaseEvent;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@QuarkusTest
+class EventReadersTest {
+
+    private static final String RELEASE = """
+            type: release
+            title: Quarkus 3.17.0
+            date: 2025-11-15
+            """;
+
+    private static final String CALL = """
+            type: call
+            title: Quarkus Community Call
+            description: Monthly sync
+            date: 2025-10-15
+            time: 14:00:00
+            duration: PT60M
+            callLink: https://meet.google.com/abc
+            """;
+
+    @Inject
+    EventReaders readers;
+
+    @Test
+    void shouldResolveEventTypeFromDocument() throws Exception {
+        Event release = readers.event().readValue(RELEASE);
+        Event call = readers.event().readValue(CALL);
+
+        assertThat(release).isInstanceOf(ReleaseEvent.class);
+        assertThat(release.getDate()).isEqualTo(LocalDate.of(2025, 11, 15));
+        assertThat(call).isInstanceOf(CallEvent.class);
+        assertThat(call.getTime()).isEqualTo(LocalTime.of(14, 0));
+    }
+
+    @Test
+    void shouldReadReleaseDocuments() throws Exception {
+        ReleaseEvent release = readers.release().readValue(RELEASE);
+
+        assertThat(release.getTitle()).isEqualTo("Quarkus 3.17.0");
+        assertThat(release.getDate()).isEqualTo(LocalDate.of(2025, 11, 15));
+    }
+
+    @Test
+    void shouldReadCallDocuments() throws Exception {
+        CallEvent call = readers.call().readValue(CALL);
+
+        assertThat(call.getTitle()).isEqualTo("Quarkus Community Call");
+        assertThat(call.getDuration()).isEqualTo(Duration.ofMinutes(60));
+        assertThat(call.getCallLink()).isEqualTo("https://meet.google.com/abc");
+    }
+
+    @Test
+    void shouldRejectUnknownProperties() {
+        assertThatThrownBy(() -> readers.event().readValue(RELEASE + "titel: Quarkus 3.17.1\n"))
+                .isInstanceOf(UnrecognizedPropertyException.class);
+    }
+}
@@ -0,0 +1,37 @@
+package io.quarkus.calendars.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ActionResultTest {
+
+    private final ReconciliationAction action = ReconciliationAction.create(
+            ImmutableEvent.of(new ReleaseEvent("Quarkus 9.0.0", LocalDate.of(2025, 11, 18))), "releases@calendar.com");
+
+    @Test
+    void shouldReportSuccess() {
+        ActionResult result = ActionResult.success(action);
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getError()).isNull();
+    }
+
+    @Test
+    void shouldReportFailureWithoutMessage() {
+        ActionResult result = ActionResult.failure(action, 0, null);
+
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.toString()).endsWith("failed (null)");
+    }
+
+    @Test
+    void shouldReportRetryableFailureWithoutMessage() {
+        ActionResult result = ActionResult.failure(action, 503, null, true, null);
+
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.isRetryable()).isTrue();
+    }
+}
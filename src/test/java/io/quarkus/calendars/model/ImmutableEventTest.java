@@ -0,0 +1,90 @@
+package io.quarkus.calendars.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImmutableEventTest {
+
+    @Test
+    void shouldKeepAllValuesOfCallEvent() {
+        CallEvent call = new CallEvent("Community Call", "Monthly sync", LocalDate.of(2025, 11, 18),
+                LocalTime.of(14, 0), Duration.ofMinutes(45), "https://meet.google.com/abc");
+
+        ImmutableEvent event = ImmutableEvent.of(call);
+
+        assertThat(event.getKind()).isEqualTo(ImmutableEvent.Kind.CALL);
+        assertThat(event.getTitle()).isEqualTo("Community Call");
+        assertThat(event.getDescription()).isEqualTo("Monthly sync");
+        assertThat(event.getDate()).isEqualTo(LocalDate.of(2025, 11, 18));
+        assertThat(event.getEpochDay()).isEqualTo(LocalDate.of(2025, 11, 18).toEpochDay());
+        assertThat(event.getTime()).isEqualTo(LocalTime.of(14, 0));
+        assertThat(event.getDuration()).isEqualTo(Duration.ofMinutes(45));
+        assertThat(event.getCallLink()).isEqualTo("https://meet.google.com/abc");
+        assertThat(event.isAllDay()).isFalse();
+    }
+
+    @Test
+    void shouldNotBeAffectedByChangesToTheSource() {
+        ReleaseEvent release = new ReleaseEvent("Quarkus 3.17.0", LocalDate.of(2025, 11, 15));
+        ImmutableEvent event = ImmutableEvent.of(release);
+
+        release.setTitle("Quarkus 3.17.1");
+
+        assertThat(event.getTitle()).isEqualTo("Quarkus 3.17.0");
+        assertThat(event.isAllDay()).isTrue();
+        assertThat(event.getTime()).isNull();
+        assertThat(event.getDuration()).isNull();
+    }
+
+    @Test
+    void shouldCompareByValue() {
+        ImmutableEvent event = ImmutableEvent.of(new ReleaseEvent("Quarkus 3.17.0", LocalDate.of(2025, 11, 15)));
+        ImmutableEvent same = ImmutableEvent.of(new ReleaseEvent("Quarkus 3.17.0", LocalDate.of(2025, 11, 15)));
+        ImmutableEvent otherDate = ImmutableEvent.of(new ReleaseEvent("Quarkus 3.17.0", LocalDate.of(2025, 11, 16)));
+
+        assertThat(event).isEqualTo(same).hasSameHashCodeAs(same);
+        assertThat(event).isNotEqualTo(otherDate);
+    }
+
+    @Test
+    void shouldConvertBackToMutableCopy() {
+        CallEvent call = new CallEvent("Community Call", "Monthly sync", LocalDate.of(2025, 11, 18),
+                LocalTime.of(14, 0), "https://meet.google.com/abc");
+        ImmutableEvent event = ImmutableEvent.of(call);
+
+        Event copy = event.toEvent();
+
+        assertThat(copy).isInstanceOf(CallEvent.class);
+        assertThat(ImmutableEvent.of(copy)).isEqualTo(event);
+    }
+
+    @Test
+    void shouldRepresentIncompleteEvents() {
+        ImmutableEvent event = ImmutableEvent.of(new ReleaseEvent());
+
+        assertThat(event.getTitle()).isNull();
+        assertThat(event.getDate()).isNull();
+        assertThat(event.toEvent().getDate()).isNull();
+    }
+
+    @Test
+    void shouldKeyEventsByTitleAndDate() {
+        ImmutableEvent release = ImmutableEvent.of(new ReleaseEvent("Quarkus 3.17.0", LocalDate.of(2025, 11, 15)));
+        CallEvent call = new CallEvent("Quarkus 3.17.0", "Other description", LocalDate.of(2025, 11, 15),
+                LocalTime.of(14, 0), Duration.ofMinutes(45), null);
+
+        assertThat(release.getKey())
+                .isSameAs(release.getKey())
+                .isEqualTo(EventKey.of("Quarkus 3.17.0", LocalDate.of(2025, 11, 15)))
+                .isEqualTo(ImmutableEvent.of(call).getKey())
+                .hasSameHashCodeAs(ImmutableEvent.of(call).getKey())
+                .isNotEqualTo(EventKey.of("Quarkus 3.17.0", LocalDate.of(2025, 11, 16)))
+                .isNotEqualTo(EventKey.of("Quarkus 3.17.1", LocalDate.of(2025, 11, 15)));
+        assertThat(EventKey.of(null, (LocalDate) null)).isEqualTo(EventKey.of(null, (LocalDate) null));
+    }
+}
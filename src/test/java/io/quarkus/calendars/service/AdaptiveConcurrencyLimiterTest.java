@@ -0,0 +1,139 @@
+package io.quarkus.calendars.service;
+
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long LATENCY = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    void shouldGrowWhileLatencyStaysFlat() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 8);
+
+        for (int i = 0; i < 50; i++) {
+            limiter.acquire();
+            limiter.onSuccess("write", LATENCY);
+        }
+
+        assertThat(limiter.getLimit()).isGreaterThan(2);
+        assertThat(limiter.getRequests()).isEqualTo(50);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void shouldNotGrowBeyondMaximum() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 3);
+
+        for (int i = 0; i < 500; i++) {
+            limiter.acquire();
+            limiter.onSuccess("write", LATENCY);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldHalveOnRateLimiting() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 16);
+
+        limiter.acquire();
+        limiter.onRateLimited();
+
+        assertThat(limiter.getLimit()).isEqualTo(4);
+        assertThat(limiter.getRejections()).isEqualTo(1);
+
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire();
+            limiter.onRateLimited();
+        }
+        assertThat(limiter.getLimit()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldBackOffWhenLatencyRises() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 16);
+        limiter.acquire();
+        limiter.onSuccess("write", LATENCY);
+
+        limiter.acquire();
+        limiter.onSuccess("write", LATENCY * 5);
+
+        assertThat(limiter.getLimit()).isEqualTo(7);
+    }
+
+    @Test
+    void shouldCompareLatencyWithinEachKindOfRequest() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 16);
+
+        // Batches and large pages take far longer than single writes, without any congestion
+        for (int i = 0; i < 20; i++) {
+            limiter.acquire();
+            limiter.onSuccess("write", LATENCY);
+            limiter.acquire();
+            limiter.onSuccess("batch/50", LATENCY * 10);
+            limiter.acquire();
+            limiter.onSuccess("list/2500", LATENCY * 30);
+            limiter.acquire();
+            limiter.onSuccess("batch/3", LATENCY * 2);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(8);
+
+        limiter.acquire();
+        limiter.onSuccess("batch/50", LATENCY * 30);
+        assertThat(limiter.getLimit()).isEqualTo(7);
+    }
+
+    @Test
+    void shouldBlockWhileLimitIsReached() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1);
+        limiter.acquire();
+        CountDownLatch acquired = new CountDownLatch(1);
+
+        Thread waiting = Thread.ofVirtual().start(() -> {
+            try {
+                limiter.acquire();
+                acquired.countDown();
+                limiter.onIgnore();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        assertThat(acquired.await(100, TimeUnit.MILLISECONDS)).isFalse();
+        limiter.onIgnore();
+        assertThat(acquired.await(5, TimeUnit.SECONDS)).isTrue();
+        waiting.join();
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void shouldRejectInvalidLimits() {
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter(0, 4)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter(4, 2)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRecognizeRateLimitResponses() {
+        assertThat(GoogleCalendarService.isRateLimited(429, null)).isTrue();
+        assertThat(GoogleCalendarService.isRateLimited(403, error("userRateLimitExceeded"))).isTrue();
+        assertThat(GoogleCalendarService.isRateLimited(403, error("rateLimitExceeded"))).isTrue();
+        assertThat(GoogleCalendarService.isRateLimited(403, error("forbidden"))).isFalse();
+        assertThat(GoogleCalendarService.isRateLimited(404, error("notFound"))).isFalse();
+    }
+
+    private static GoogleJsonError error(String reason) {
+        GoogleJsonError.ErrorInfo info = new GoogleJsonError.ErrorInfo();
+        info.setReason(reason);
+        GoogleJsonError error = new GoogleJsonError();
+        error.setErrors(List.of(info));
+        return error;
+    }
+}
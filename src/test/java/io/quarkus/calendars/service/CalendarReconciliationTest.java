@@ -13,6 +13,7 @@ import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @QuarkusTest
 @TestProfile(CalendarReconciliationTest.MockProfile.class)
@@ -73,4 +74,30 @@ class CalendarReconciliationTest {
             System.out.println("  " + action.getType() + ": " + action.getDescription());
         }
     }
+
+    @Test
+    void shouldMergeActionsOfBothCalendarsInOrder() {
+        LocalDate startDate = LocalDate.now().minusMonths(1);
+        LocalDate endDate = LocalDate.now().plusMonths(4);
+        List<ReconciliationAction> releases = reconciliation.reconcileReleases(startDate, endDate, true);
+        List<ReconciliationAction> calls = reconciliation.reconcileCalls(startDate, endDate, true);
+
+        List<ReconciliationAction> actions = reconciliation.reconcile(true);
+
+        // Grouped by calendar in the configured order: releases, then calls
+        assertThat(actions).hasSize(releases.size() + calls.size());
+        assertThat(actions.subList(0, releases.size()))
+            .allMatch(action -> action.getCalendarId().equals("test-releases@calendar.com"));
+        assertThat(actions.subList(releases.size(), actions.size()))
+            .allMatch(action -> action.getCalendarId().equals("test-calls@calendar.com"));
+    }
+
+    @Test
+    void shouldFailWhenEitherCalendarFails() {
+        mockCalendarService.makeUnavailable("test-calls@calendar.com");
+
+        assertThatThrownBy(() -> reconciliation.reconcile(true))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessage("Failed to reconcile calls");
+    }
 }
@@ -0,0 +1,99 @@
+package io.quarkus.calendars.service;
+
+import io.quarkus.calendars.model.CallEvent;
+import io.quarkus.calendars.model.ImmutableEvent;
+import io.quarkus.calendars.model.ReleaseEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventBundleTest {
+
+    @TempDir
+    Path tempDir;
+
+    private EventBundle bundle;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        CallEvent call = new CallEvent("Community Call", "Monthly sync", LocalDate.of(2025, 11, 18),
+                LocalTime.of(14, 0), "https://meet.google.com/abc");
+        call.setDuration(Duration.ofMinutes(50));
+
+        Path file = tempDir.resolve("events.bin");
+        EventBundle.write(file, Map.of(
+                "quarkus-releases", List.of(
+                        release("Quarkus 3.18.0", LocalDate.of(2025, 12, 10)),
+                        release("Quarkus 3.16.0", LocalDate.of(2025, 10, 1)),
+                        release("Quarkus 3.17.0", LocalDate.of(2025, 11, 15))),
+                "quarkus-calls", List.of(ImmutableEvent.of(call))));
+        try (InputStream in = Files.newInputStream(file)) {
+            bundle = EventBundle.read(in);
+        }
+    }
+
+    @Test
+    void shouldReturnEventsSortedByDate() {
+        List<ImmutableEvent> events = bundle.events("quarkus-releases", ImmutableEvent.Kind.RELEASE, null, null);
+
+        assertThat(events).extracting(ImmutableEvent::getTitle)
+                .containsExactly("Quarkus 3.16.0", "Quarkus 3.17.0", "Quarkus 3.18.0");
+    }
+
+    @Test
+    void shouldSelectDateRangeInclusively() {
+        List<ImmutableEvent> events = bundle.events("./quarkus-releases", ImmutableEvent.Kind.RELEASE,
+                LocalDate.of(2025, 11, 15), LocalDate.of(2025, 12, 10));
+
+        assertThat(events).extracting(ImmutableEvent::getTitle).containsExactly("Quarkus 3.17.0", "Quarkus 3.18.0");
+    }
+
+    @Test
+    void shouldRestoreAllFieldsAndFilterByType() {
+        assertThat(bundle.events("quarkus-calls", ImmutableEvent.Kind.RELEASE, null, null)).isEmpty();
+
+        ImmutableEvent call = bundle.events("quarkus-calls", ImmutableEvent.Kind.CALL, null, null).get(0);
+        assertThat(call.getTitle()).isEqualTo("Community Call");
+        assertThat(call.getDescription()).isEqualTo("Monthly sync");
+        assertThat(call.getTime()).isEqualTo(LocalTime.of(14, 0));
+        assertThat(call.getDuration()).isEqualTo(Duration.ofMinutes(50));
+        assertThat(call.getCallLink()).isEqualTo("https://meet.google.com/abc");
+        assertThat(bundle.events("quarkus-releases", ImmutableEvent.Kind.RELEASE, null, null).get(0).getDuration()).isNull();
+    }
+
+    @Test
+    void shouldNotServeUnknownDirectories() {
+        assertThat(bundle.contains("quarkus-releases")).isTrue();
+        assertThat(bundle.contains("other")).isFalse();
+        assertThat(bundle.events("other", ImmutableEvent.Kind.RELEASE, null, null)).isNull();
+    }
+
+    @Test
+    void shouldServeCatalogEventsWithoutReadingFiles() {
+        EventCatalog catalog = new EventCatalog(null, 1, null);
+        catalog.useBundle(bundle);
+
+        assertThat(catalog.events("quarkus-releases", ImmutableEvent.Kind.RELEASE, null, null)).hasSize(3);
+        assertThat(catalog.stream("quarkus-releases", ImmutableEvent.Kind.RELEASE,
+                LocalDate.of(2025, 11, 1), LocalDate.of(2025, 11, 30)))
+                .extracting(ImmutableEvent::getTitle)
+                .containsExactly("Quarkus 3.17.0");
+        // Directories missing from the bundle are read from the file system
+        assertThat(catalog.events(tempDir.resolve("missing").toString(), ImmutableEvent.Kind.RELEASE, null, null)).isEmpty();
+    }
+
+    private static ImmutableEvent release(String title, LocalDate date) {
+        return ImmutableEvent.of(new ReleaseEvent(title, date));
+    }
+}
@@ -0,0 +1,158 @@
+package io.quarkus.calendars.service;
+
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.quarkus.calendars.model.CallEvent;
+import io.quarkus.calendars.model.Event;
+import io.quarkus.calendars.model.ImmutableEvent;
+import io.quarkus.calendars.model.ReleaseEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldRestoreEventsFromSnapshot() {
+        Path cacheDir = tempDir.resolve("cache");
+        Path file = Path.of("quarkus-calls/call.yaml");
+        byte[] hash = EventCache.hash("content".getBytes(StandardCharsets.UTF_8));
+        CallEvent call = new CallEvent("Community Call", "Monthly sync", LocalDate.of(2025, 11, 18),
+            LocalTime.of(14, 0), Duration.ofMinutes(45), "https://meet.google.com/abc");
+
+        EventCache cache = EventCache.open(cacheDir, Path.of("quarkus-calls"));
+        cache.put(file, 7, 1000, hash, ImmutableEvent.of(call));
+        cache.save();
+
+        ImmutableEvent restored = EventCache.open(cacheDir, Path.of("quarkus-calls")).get(file, 7, 1000);
+
+        assertThat(restored.getKind()).isEqualTo(ImmutableEvent.Kind.CALL);
+        assertThat(restored.getTitle()).isEqualTo("Community Call");
+        assertThat(restored.getDescription()).isEqualTo("Monthly sync");
+        assertThat(restored.getDate()).isEqualTo(LocalDate.of(2025, 11, 18));
+        assertThat(restored.getTime()).isEqualTo(LocalTime.of(14, 0));
+        assertThat(restored.getDuration()).isEqualTo(Duration.ofMinutes(45));
+        assertThat(restored.getCallLink()).isEqualTo("https://meet.google.com/abc");
+    }
+
+    @Test
+    void shouldDropSnapshotWrittenUnderOtherRules() {
+        Path file = Path.of("quarkus-releases/release.yaml");
+        byte[] hash = EventCache.hash("content".getBytes(StandardCharsets.UTF_8));
+        EventCache cache = EventCache.open(tempDir, Path.of("quarkus-releases"), "1/1.0.0");
+        cache.put(file, 7, 1000, hash, ImmutableEvent.of(new ReleaseEvent("Quarkus 3.17.0", LocalDate.of(2025, 11, 15))));
+        cache.save();
+
+        assertThat(EventCache.open(tempDir, Path.of("quarkus-releases"), "1/1.0.0").get(file, 7, 1000)).isNotNull();
+        assertThat(EventCache.open(tempDir, Path.of("quarkus-releases"), "2/1.0.0").get(file, 7, 1000, hash)).isNull();
+        assertThat(EventCache.open(tempDir, Path.of("quarkus-releases"), "1/1.1.0").get(file, 7, 1000, hash)).isNull();
+    }
+
+    @Test
+    void shouldMissWhenSizeOrModificationTimeChanged() {
+        Path file = Path.of("quarkus-releases/release.yaml");
+        byte[] hash = EventCache.hash("content".getBytes(StandardCharsets.UTF_8));
+        EventCache cache = EventCache.open(tempDir, Path.of("quarkus-releases"));
+        cache.put(file, 7, 1000, hash, ImmutableEvent.of(new ReleaseEvent("Quarkus 3.17.0", LocalDate.of(2025, 11, 15))));
+
+        assertThat(cache.get(file, 8, 1000)).isNull();
+        assertThat(cache.get(file, 7, 2000)).isNull();
+        assertThat(cache.get(file, 7, 1000).getKind()).isEqualTo(ImmutableEvent.Kind.RELEASE);
+    }
+
+    @Test
+    void shouldHitOnSameContentHashAfterTouch() {
+        Path file = Path.of("quarkus-releases/release.yaml");
+        byte[] hash = EventCache.hash("content".getBytes(StandardCharsets.UTF_8));
+        EventCache cache = EventCache.open(tempDir, Path.of("quarkus-releases"));
+        cache.put(file, 7, 1000, hash, ImmutableEvent.of(new ReleaseEvent("Quarkus 3.17.0", LocalDate.of(2025, 11, 15))));
+
+        assertThat(cache.get(file, 7, 2000, EventCache.hash("changed".getBytes(StandardCharsets.UTF_8)))).isNull();
+        assertThat(cache.get(file, 7, 2000, hash)).isNotNull();
+        // The new modification time is recorded
+        assertThat(cache.get(file, 7, 2000)).isNotNull();
+    }
+
+    @Test
+    void shouldAlwaysVerifyRecentlyModifiedFiles() {
+        Path file = Path.of("quarkus-releases/release.yaml");
+        long justNow = System.currentTimeMillis() * 1000;
+        byte[] hash = EventCache.hash("content".getBytes(StandardCharsets.UTF_8));
+        EventCache cache = EventCache.open(tempDir, Path.of("quarkus-releases"));
+        cache.put(file, 7, justNow, hash, ImmutableEvent.of(new ReleaseEvent("Quarkus 3.17.0", LocalDate.of(2025, 11, 15))));
+
+        assertThat(cache.get(file, 7, justNow)).isNull();
+        assertThat(cache.get(file, 7, justNow, hash)).isNotNull();
+    }
+
+    @Test
+    void shouldIgnoreCorruptSnapshot() throws Exception {
+        EventCache cache = EventCache.open(tempDir, Path.of("quarkus-releases"));
+        cache.put(Path.of("quarkus-releases/a.yaml"), 1, 1, new byte[32], ImmutableEvent.of(new ReleaseEvent("A", LocalDate.of(2025, 1, 1))));
+        cache.save();
+
+        try (var files = Files.list(tempDir)) {
+            Path snapshot = files.findFirst().orElseThrow();
+            byte[] bytes = Files.readAllBytes(snapshot);
+            Files.write(snapshot, java.util.Arrays.copyOf(bytes, bytes.length / 2));
+        }
+
+        EventCache reopened = EventCache.open(tempDir, Path.of("quarkus-releases"));
+        assertThat(reopened.get(Path.of("quarkus-releases/a.yaml"), 1, 1)).isNull();
+    }
+
+    @Test
+    void shouldPickUpModifiedFilesThroughLoader() throws Exception {
+        Path releases = tempDir.resolve("releases");
+        Files.createDirectories(releases);
+        Path file = releases.resolve("release.yaml");
+        Files.writeString(file, """
+            type: release
+            title: Quarkus 3.17.0
+            date: 2025-11-15
+            """);
+
+        LocalEventLoader loader = newLoader(releases, tempDir.resolve("cache"));
+        assertThat(loader.loadReleaseEvents()).extracting(Event::getTitle).containsExactly("Quarkus 3.17.0");
+
+        // A fresh loader restores the event from the snapshot
+        assertThat(newLoader(releases, tempDir.resolve("cache")).loadReleaseEvents())
+            .extracting(Event::getTitle).containsExactly("Quarkus 3.17.0");
+
+        Files.writeString(file, """
+            type: release
+            title: Quarkus 3.17.1
+            date: 2025-11-20
+            """);
+
+        List<ReleaseEvent> events = newLoader(releases, tempDir.resolve("cache")).loadReleaseEvents();
+        assertThat(events).extracting(Event::getTitle).containsExactly("Quarkus 3.17.1");
+        assertThat(events).extracting(Event::getDate).containsExactly(LocalDate.of(2025, 11, 20));
+    }
+
+    private LocalEventLoader newLoader(Path releases, Path cacheDir) {
+        LocalEventLoader loader = new LocalEventLoader(releases.toString(), tempDir.resolve("calls").toString(), 1, cacheDir);
+        YAMLMapper mapper = new YAMLMapper();
+        mapper.registerModule(new JavaTimeModule());
+        try {
+            var field = LocalEventLoader.class.getDeclaredField("yamlMapper");
+            field.setAccessible(true);
+            field.set(loader, mapper);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        return loader;
+    }
+}
@@ -0,0 +1,125 @@
+package io.quarkus.calendars.service;
+
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.quarkus.calendars.model.ImmutableEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventCatalogTest {
+
+    @TempDir
+    Path releases;
+
+    private EventCatalog catalog;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Files.writeString(releases.resolve("valid.yaml"), """
+            type: release
+            title: Quarkus 3.17.0
+            date: 2025-11-15
+            """);
+        Files.writeString(releases.resolve("invalid.yaml"), """
+            type: release
+            date: 2025-12-01
+            """);
+        Files.writeString(releases.resolve("malformed.yaml"), """
+            type: release
+            title: {broken yaml [
+            """);
+        Files.writeString(releases.resolve("call.yaml"), """
+            type: call
+            title: Community Call
+            description: Monthly sync
+            date: 2025-11-18
+            time: 14:00:00
+            callLink: https://meet.google.com/abc
+            """);
+
+        YAMLMapper mapper = new YAMLMapper();
+        mapper.registerModule(new JavaTimeModule());
+        catalog = new EventCatalog(mapper, 4, null);
+    }
+
+    @Test
+    void shouldScanDirectoryOnce() {
+        assertThat(catalog.scan(releases.toString())).isSameAs(catalog.scan(releases.toString()));
+        assertThat(catalog.scan(releases.toString()).files()).hasSize(4);
+    }
+
+    @Test
+    void shouldScanDirectoryOnceWhenAccessedConcurrently() throws Exception {
+        List<Future<EventCatalog.DirectoryScan>> scans = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 20; i++) {
+                scans.add(executor.submit(() -> catalog.scan(releases.toString())));
+            }
+        }
+
+        EventCatalog.DirectoryScan first = scans.getFirst().get();
+        for (Future<EventCatalog.DirectoryScan> scan : scans) {
+            assertThat(scan.get()).isSameAs(first);
+        }
+    }
+
+    @Test
+    void shouldReportOutcomePerFile() {
+        List<EventCatalog.ParsedFile> outcomes = catalog.scan(releases.toString()).parseAll();
+
+        assertThat(outcome(outcomes, "valid.yaml").problem()).isNull();
+        assertThat(outcome(outcomes, "valid.yaml").event().getKind()).isEqualTo(ImmutableEvent.Kind.RELEASE);
+        assertThat(outcome(outcomes, "invalid.yaml").problem()).isEqualTo(EventCatalog.Problem.VALIDATION);
+        assertThat(outcome(outcomes, "malformed.yaml").problem()).isEqualTo(EventCatalog.Problem.PARSE);
+        assertThat(outcome(outcomes, "call.yaml").event().getKind()).isEqualTo(ImmutableEvent.Kind.CALL);
+    }
+
+    @Test
+    void shouldServeTypedAndDateFilteredViewsFromTheSameScan() {
+        assertThat(catalog.events(releases.toString(), ImmutableEvent.Kind.RELEASE, null, null))
+            .extracting(ImmutableEvent::getTitle).containsExactly("Quarkus 3.17.0");
+        assertThat(catalog.events(releases.toString(), ImmutableEvent.Kind.CALL, null, null))
+            .extracting(ImmutableEvent::getTitle).containsExactly("Community Call");
+        assertThat(catalog.events(releases.toString(), ImmutableEvent.Kind.RELEASE,
+            LocalDate.of(2025, 12, 1), LocalDate.of(2025, 12, 31))).isEmpty();
+    }
+
+    @Test
+    void shouldReuseParsedFilesUntilInvalidated() throws Exception {
+        assertThat(catalog.events(releases.toString(), ImmutableEvent.Kind.RELEASE, null, null))
+            .extracting(ImmutableEvent::getTitle).containsExactly("Quarkus 3.17.0");
+
+        Files.writeString(releases.resolve("valid.yaml"), """
+            type: release
+            title: Quarkus 3.17.1
+            date: 2025-11-20
+            """);
+
+        assertThat(catalog.events(releases.toString(), ImmutableEvent.Kind.RELEASE, null, null))
+            .extracting(ImmutableEvent::getTitle).containsExactly("Quarkus 3.17.0");
+
+        catalog.invalidate();
+
+        assertThat(catalog.events(releases.toString(), ImmutableEvent.Kind.RELEASE, null, null))
+            .extracting(ImmutableEvent::getTitle).containsExactly("Quarkus 3.17.1");
+    }
+
+    private EventCatalog.ParsedFile outcome(List<EventCatalog.ParsedFile> outcomes, String fileName) {
+        return outcomes.stream()
+            .filter(outcome -> outcome.file().getFileName().toString().equals(fileName))
+            .findFirst()
+            .orElseThrow();
+    }
+}
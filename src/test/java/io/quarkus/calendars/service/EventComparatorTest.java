@@ -3,6 +3,8 @@ package io.quarkus.calendars.service;
 import com.google.api.client.util.DateTime;
 import com.google.api.services.calendar.model.EventDateTime;
 import io.quarkus.calendars.model.CallEvent;
+import io.quarkus.calendars.model.EventField;
+import io.quarkus.calendars.model.ImmutableEvent;
 import io.quarkus.calendars.model.ReleaseEvent;
 import io.quarkus.test.junit.QuarkusTest;
 import jakarta.inject.Inject;
@@ -269,6 +271,35 @@ class EventComparatorTest {
         assertThat(eventComparator.needsUpdate(localEvent, remoteEvent)).isTrue();
     }
 
+    @Test
+    void shouldReportOnlyChangedFields() {
+        CallEvent localEvent = new CallEvent(
+            "November 2025 Quarkus Community Call",
+            "Monthly community sync",
+            LocalDate.of(2025, 11, 18),
+            LocalTime.of(14, 0, 0),
+            Duration.ofMinutes(50),
+            "https://meet.google.com/abc-defg-hij"
+        );
+        ImmutableEvent event = ImmutableEvent.of(localEvent);
+
+        assertThat(eventComparator.differences(event, createRemoteCallEvent(
+            "November 2025 Quarkus Community Call", "Monthly community sync", LocalDate.of(2025, 11, 18),
+            LocalTime.of(14, 0, 0), Duration.ofMinutes(50), "https://meet.google.com/abc-defg-hij"))).isEmpty();
+        assertThat(eventComparator.differences(event, createRemoteCallEvent(
+            "November 2025 Quarkus Community Call", "Old description", LocalDate.of(2025, 11, 18),
+            LocalTime.of(14, 0, 0), Duration.ofMinutes(50), "https://meet.google.com/abc-defg-hij")))
+            .containsExactly(EventField.DESCRIPTION);
+        assertThat(eventComparator.differences(event, createRemoteCallEvent(
+            "November 2025 Quarkus Community Call", "Monthly community sync", LocalDate.of(2025, 11, 18),
+            LocalTime.of(14, 0, 0), Duration.ofMinutes(60), "https://meet.google.com/abc-defg-hij")))
+            .containsExactly(EventField.END);
+        assertThat(eventComparator.differences(event, createRemoteCallEvent(
+            "November 2025 Quarkus Community Call", "Monthly community sync", LocalDate.of(2025, 11, 18),
+            LocalTime.of(15, 0, 0), Duration.ofMinutes(50), "https://meet.google.com/abc-defg-hij")))
+            .containsExactly(EventField.START, EventField.END);
+    }
+
     private com.google.api.services.calendar.model.Event createRemoteReleaseEvent(
             String title, LocalDate date) {
         com.google.api.services.calendar.model.Event event =
@@ -0,0 +1,130 @@
+package io.quarkus.calendars.service;
+
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.quarkus.calendars.model.Event;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventManifestTest {
+
+    @TempDir
+    Path releases;
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        file = releases.resolve("release.yaml");
+        Files.writeString(file, """
+            type: release
+            title: Quarkus 3.17.0
+            date: 2025-11-15
+            """);
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(1, ChronoUnit.DAYS)));
+    }
+
+    @Test
+    void shouldPersistIndexedDates() {
+        EventManifest manifest = EventManifest.open(releases);
+        manifest.record(file, LocalDate.of(2025, 11, 15));
+        manifest.save();
+
+        assertThat(Files.exists(releases.resolve(EventManifest.FILE_NAME))).isTrue();
+        assertThat(EventManifest.open(releases).date(file)).isEqualTo(LocalDate.of(2025, 11, 15));
+    }
+
+    @Test
+    void shouldKeepFilesRecordedWhileSaving() throws Exception {
+        List<Path> files = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Path other = releases.resolve("release-" + i + ".yaml");
+            Files.writeString(other, "type: release\n");
+            Files.setLastModifiedTime(other, FileTime.from(Instant.now().minus(1, ChronoUnit.DAYS)));
+            files.add(other);
+        }
+        EventManifest manifest = EventManifest.open(releases);
+
+        Thread recorder = Thread.ofPlatform().start(() -> files.forEach(f -> manifest.record(f, LocalDate.of(2025, 11, 15))));
+        while (recorder.isAlive()) {
+            manifest.save();
+        }
+        recorder.join();
+        manifest.save();
+
+        EventManifest reopened = EventManifest.open(releases);
+        assertThat(files).allSatisfy(f -> assertThat(reopened.date(f)).isEqualTo(LocalDate.of(2025, 11, 15)));
+    }
+
+    @Test
+    void shouldNotTrustEntriesOfModifiedFiles() throws Exception {
+        EventManifest manifest = EventManifest.open(releases);
+        manifest.record(file, LocalDate.of(2025, 11, 15));
+
+        Files.writeString(file, """
+            type: release
+            title: Quarkus 3.17.0
+            date: 2026-01-15
+            """);
+
+        assertThat(manifest.date(file)).isNull();
+    }
+
+    @Test
+    void shouldNotTrustEntriesOfRecentlyModifiedFiles() throws Exception {
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+        EventManifest manifest = EventManifest.open(releases);
+        manifest.record(file, LocalDate.of(2025, 11, 15));
+
+        assertThat(manifest.date(file)).isNull();
+    }
+
+    @Test
+    void shouldIgnoreMalformedIndex() throws Exception {
+        Files.writeString(releases.resolve(EventManifest.FILE_NAME), "not an index\n");
+
+        assertThat(EventManifest.open(releases).date(file)).isNull();
+    }
+
+    @Test
+    void shouldSkipFilesIndexedOutsideTheRange() {
+        // Index the file with a date it does not have, to observe that the loader trusts the index
+        EventManifest manifest = EventManifest.open(releases);
+        manifest.record(file, LocalDate.of(2020, 1, 1));
+        manifest.save();
+
+        LocalEventLoader loader = newLoader();
+
+        assertThat(loader.loadReleaseEvents(LocalDate.of(2025, 11, 1), LocalDate.of(2025, 11, 30))).isEmpty();
+        assertThat(loader.loadReleaseEvents()).extracting(Event::getTitle).containsExactly("Quarkus 3.17.0");
+        // The full load corrected the index
+        assertThat(newLoader().loadReleaseEvents(LocalDate.of(2025, 11, 1), LocalDate.of(2025, 11, 30)))
+            .extracting(Event::getTitle).containsExactly("Quarkus 3.17.0");
+    }
+
+    private LocalEventLoader newLoader() {
+        LocalEventLoader loader = new LocalEventLoader(releases.toString(), releases.resolve("calls").toString());
+        YAMLMapper mapper = new YAMLMapper();
+        mapper.registerModule(new JavaTimeModule());
+        try {
+            var field = LocalEventLoader.class.getDeclaredField("yamlMapper");
+            field.setAccessible(true);
+            field.set(loader, mapper);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        return loader;
+    }
+}
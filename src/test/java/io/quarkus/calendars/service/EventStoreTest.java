@@ -0,0 +1,69 @@
+package io.quarkus.calendars.service;
+
+import io.quarkus.calendars.model.ImmutableEvent;
+import io.quarkus.calendars.model.ReleaseEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventStoreTest {
+
+    private final EventStore<ImmutableEvent> store = EventStore.of(List.of(
+            release("C", LocalDate.of(2025, 12, 10)),
+            release("A", LocalDate.of(2025, 10, 1)),
+            release("B1", LocalDate.of(2025, 11, 15)),
+            release("B2", LocalDate.of(2025, 11, 15))));
+
+    @Test
+    void shouldSortByDateKeepingInsertionOrderPerDay() {
+        assertThat(store.all()).extracting(ImmutableEvent::getTitle).containsExactly("A", "B1", "B2", "C");
+        assertThat(store.size()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldAnswerInclusiveWindows() {
+        assertThat(store.window(LocalDate.of(2025, 11, 15), LocalDate.of(2025, 12, 10)))
+                .extracting(ImmutableEvent::getTitle).containsExactly("B1", "B2", "C");
+        assertThat(store.window(LocalDate.of(2025, 11, 16), LocalDate.of(2025, 12, 9))).isEmpty();
+        assertThat(store.window(LocalDate.of(2026, 1, 1), LocalDate.of(2025, 1, 1))).isEmpty();
+    }
+
+    @Test
+    void shouldAnswerByDay() {
+        assertThat(store.on(LocalDate.of(2025, 11, 15))).extracting(ImmutableEvent::getTitle).containsExactly("B1", "B2");
+        assertThat(store.on(LocalDate.of(2025, 11, 14))).isEmpty();
+    }
+
+    @Test
+    void shouldFindEventsOverlappingRange() {
+        record Span(String name, LocalDate start, LocalDate end) {
+        }
+        EventStore<Span> spans = EventStore.of(List.of(
+                new Span("conference", LocalDate.of(2025, 11, 1), LocalDate.of(2025, 11, 5)),
+                new Span("call", LocalDate.of(2025, 11, 4), LocalDate.of(2025, 11, 4)),
+                new Span("release", LocalDate.of(2025, 11, 10), LocalDate.of(2025, 11, 10))),
+                span -> span.start().toEpochDay(), span -> span.end().toEpochDay());
+
+        assertThat(spans.overlapping(LocalDate.of(2025, 11, 5), LocalDate.of(2025, 11, 9)))
+                .extracting(Span::name).containsExactly("conference");
+        assertThat(spans.overlapping(LocalDate.of(2025, 11, 4), LocalDate.of(2025, 11, 10)))
+                .extracting(Span::name).containsExactly("conference", "call", "release");
+        assertThat(spans.window(LocalDate.of(2025, 11, 5), LocalDate.of(2025, 11, 9))).isEmpty();
+    }
+
+    @Test
+    void shouldHandleEmptyStore() {
+        EventStore<ImmutableEvent> empty = EventStore.of(List.of());
+
+        assertThat(empty.all()).isEmpty();
+        assertThat(empty.window(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31))).isEmpty();
+        assertThat(empty.overlapping(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31))).isEmpty();
+    }
+
+    private static ImmutableEvent release(String title, LocalDate date) {
+        return ImmutableEvent.of(new ReleaseEvent(title, date));
+    }
+}
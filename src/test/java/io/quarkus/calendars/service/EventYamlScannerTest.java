@@ -0,0 +1,136 @@
+package io.quarkus.calendars.service;
+
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import io.quarkus.calendars.config.JacksonConfiguration;
+import io.quarkus.calendars.model.CallEvent;
+import io.quarkus.calendars.model.Event;
+import io.quarkus.calendars.model.ReleaseEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventYamlScannerTest {
+
+    private final YAMLMapper mapper = JacksonConfiguration.createYamlMapper(false);
+
+    @Test
+    void shouldReadRepositoryEventsLikeJackson() throws Exception {
+        List<Path> files;
+        try (Stream<Path> releases = Files.list(Paths.get("quarkus-releases"));
+             Stream<Path> calls = Files.list(Paths.get("quarkus-calls"))) {
+            files = Stream.concat(releases, calls)
+                    .filter(file -> file.toString().endsWith(".yaml"))
+                    .toList();
+        }
+        assertThat(files).isNotEmpty();
+
+        for (Path file : files) {
+            byte[] content = Files.readAllBytes(file);
+            Event scanned = EventYamlScanner.scan(content);
+            if (new String(content, StandardCharsets.UTF_8).startsWith("--- !<")) {
+                // Written by the event generator with type tags and sequence dates
+                assertThat(scanned).as(file.toString()).isNull();
+                continue;
+            }
+            assertThat(scanned).as(file.toString()).isNotNull();
+            assertThat(scanned).as(file.toString())
+                    .usingRecursiveComparison()
+                    .isEqualTo(mapper.readValue(content, Event.class));
+        }
+    }
+
+    @Test
+    void shouldReadCallEvent() {
+        Event event = scan("""
+            ---
+            # Monthly call
+            type: call
+            title: 'Community Call'
+            description: |-
+              First line
+
+              Third line: with a colon
+            date: 2025-11-18
+            time: "14:00"
+            duration: PT1H
+            callLink: https://meet.google.com/abc
+            """);
+
+        assertThat(event).isInstanceOf(CallEvent.class);
+        assertThat(event.getTitle()).isEqualTo("Community Call");
+        assertThat(event.getDescription()).isEqualTo("First line\n\nThird line: with a colon");
+        assertThat(event.getDate()).isEqualTo(LocalDate.of(2025, 11, 18));
+        assertThat(event.getTime()).isEqualTo(LocalTime.of(14, 0));
+        assertThat(event.getDuration()).isEqualTo(Duration.ofHours(1));
+        assertThat(event.getCallLink()).isEqualTo("https://meet.google.com/abc");
+    }
+
+    @Test
+    void shouldReadReleaseEvent() {
+        Event event = scan("""
+            type: release
+            title: Quarkus 3.17.0 – Final
+            date: 2025-11-15
+            """);
+
+        assertThat(event).isInstanceOf(ReleaseEvent.class);
+        assertThat(event.getTitle()).isEqualTo("Quarkus 3.17.0 – Final");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "type: release\ntitle: \"Quarkus \\u0033\"\ndate: 2025-11-15\n",
+            "type: release\ntitle: 'It''s out'\ndate: 2025-11-15\n",
+            "type: release\ntitle: Quarkus # comment\ndate: 2025-11-15\n",
+            "type: release\ntitle: >\n  folded\n  text\ndate: 2025-11-15\n",
+            "type: release\ntitle: |+\n  kept\n\ndate: 2025-11-15\n",
+            "type: release\ntitle: Quarkus\nunknown: value\ndate: 2025-11-15\n",
+            "type: release\ntitle: Quarkus\ntitle: Again\ndate: 2025-11-15\n",
+            "type: release\ntitle: true\ndate: 2025-11-15\n",
+            "type: release\ntitle: 3.17\ndate: 2025-11-15\n",
+            "type: release\ntitle: ~\ndate: 2025-11-15\n",
+            "type: release\ntitle:\ndate: 2025-11-15\n",
+            "--- !<release>\ntitle: Quarkus\ndate: 2025-11-15\n",
+            "type: release\r\ntitle: Quarkus\r\ndate: 2025-11-15\r\n",
+            "type: release\ntitle:\tQuarkus\ndate: 2025-11-15\n",
+            "type: release\ntitle: Quarkus\n  continued\ndate: 2025-11-15\n",
+            "type: release\ndescription: |\n  line\n     \n  line\ndate: 2025-11-15\n",
+            "type: release\ndescription: |\n  no final break",
+            "type: release\ntitle: Quarkus\ndate: [2025, 11, 15]\n",
+            "type: release\ntitle: Quarkus\ndate: 2025-13-45\n",
+            "type: meeting\ntitle: Quarkus\ndate: 2025-11-15\n",
+            "title: Quarkus\ndate: 2025-11-15\n",
+            "type: release\ntitle: {broken yaml [\n",
+            ""
+    })
+    void shouldLeaveUnsupportedContentToJackson(String yaml) {
+        assertThat(scan(yaml)).isNull();
+    }
+
+    @Test
+    void shouldKeepMissingFieldsForValidation() {
+        Event event = scan("""
+            type: release
+            date: 2025-12-01
+            """);
+
+        assertThat(event).isNotNull();
+        assertThat(event.getTitle()).isNull();
+    }
+
+    private static Event scan(String yaml) {
+        return EventYamlScanner.scan(yaml.getBytes(StandardCharsets.UTF_8));
+    }
+}
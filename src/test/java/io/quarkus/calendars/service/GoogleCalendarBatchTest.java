@@ -0,0 +1,176 @@
+package io.quarkus.calendars.service;
+
+import com.google.api.services.calendar.model.Event;
+import io.quarkus.calendars.config.GoogleCalendarConfig;
+import io.quarkus.calendars.model.ActionResult;
+import io.quarkus.calendars.model.ImmutableEvent;
+import io.quarkus.calendars.model.ReconciliationAction;
+import io.quarkus.calendars.model.ReleaseEvent;
+import io.quarkus.calendars.util.EventUtils;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static io.quarkus.calendars.service.StubCalendarTransport.batch;
+import static io.quarkus.calendars.service.StubCalendarTransport.error;
+import static io.quarkus.calendars.service.StubCalendarTransport.errorPart;
+import static io.quarkus.calendars.service.StubCalendarTransport.part;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Batch writes of {@link GoogleCalendarService} against a stub transport answering with multipart responses.
+ */
+@QuarkusTest
+class GoogleCalendarBatchTest {
+
+    private static final String CALENDAR_ID = "releases@group.calendar.google.com";
+
+    @Inject
+    GoogleCalendarConfig config;
+
+    private GoogleCalendarService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new GoogleCalendarService();
+        service.config = config;
+        service.init();
+    }
+
+    @Test
+    void shouldReportEachActionOfTheBatch() {
+        StubCalendarTransport transport = respond(request -> batch(
+                part(200, "{\"id\": \"created\"}"),
+                errorPart(404, "notFound"),
+                part(204, "")));
+        List<ReconciliationAction> actions = List.of(
+                ReconciliationAction.create(release("Quarkus 3.17.0"), CALENDAR_ID),
+                ReconciliationAction.update(release("Quarkus 3.18.0"), remote("remote-1", "Quarkus 3.18.0"), CALENDAR_ID),
+                ReconciliationAction.warnOrphan(remote("remote-2", "Other event"), CALENDAR_ID),
+                ReconciliationAction.delete(remote("remote-3", "Quarkus 3.16.0"), CALENDAR_ID));
+
+        List<ActionResult> results = service.executeBatch(actions);
+
+        assertThat(results).extracting(ActionResult::getAction).containsExactlyElementsOf(actions);
+        assertThat(results).extracting(ActionResult::isSuccess, ActionResult::getStatusCode, ActionResult::isRetryable)
+                .containsExactly(
+                        tuple(true, 0, false),
+                        tuple(false, 404, false),
+                        tuple(true, 0, false),
+                        tuple(true, 0, false));
+        // Orphan warnings are not sent, the three writes go in a single request
+        assertThat(transport.requests()).hasSize(1);
+        assertThat(transport.requests().getFirst().method()).isEqualTo("POST");
+        assertThat(transport.requests().getFirst().contentType()).startsWith("multipart/mixed");
+    }
+
+    @Test
+    void shouldMarkRateLimitedPartsRetryable() {
+        respond(request -> batch(
+                errorPart(429, "rateLimitExceeded", "Retry-After: 7"),
+                errorPart(403, "userRateLimitExceeded"),
+                errorPart(403, "forbidden"),
+                errorPart(503, "backendError")));
+        List<ReconciliationAction> actions = List.of(
+                ReconciliationAction.create(release("Quarkus 3.17.0"), CALENDAR_ID),
+                ReconciliationAction.create(release("Quarkus 3.18.0"), CALENDAR_ID),
+                ReconciliationAction.create(release("Quarkus 3.19.0"), CALENDAR_ID),
+                ReconciliationAction.create(release("Quarkus 3.20.0"), CALENDAR_ID));
+        int limit = service.getConcurrencyLimiter().getLimit();
+
+        List<ActionResult> results = service.executeBatch(actions);
+
+        assertThat(results).extracting(ActionResult::getStatusCode, ActionResult::isRetryable, ActionResult::getRetryAfter)
+                .containsExactly(
+                        tuple(429, true, Duration.ofSeconds(7)),
+                        tuple(403, true, null),
+                        tuple(403, false, null),
+                        tuple(503, true, null));
+        assertThat(results).noneMatch(ActionResult::isSuccess);
+        assertThat(service.getConcurrencyLimiter().getLimit()).isLessThan(limit);
+    }
+
+    @Test
+    void shouldFailAllActionsWhenBatchIsRejected() {
+        respond(request -> error(429, "rateLimitExceeded"));
+        List<ReconciliationAction> actions = List.of(
+                ReconciliationAction.create(release("Quarkus 3.17.0"), CALENDAR_ID),
+                ReconciliationAction.delete(remote("remote-1", "Quarkus 3.16.0"), CALENDAR_ID));
+        int limit = service.getConcurrencyLimiter().getLimit();
+
+        List<ActionResult> results = service.executeBatch(actions);
+
+        assertThat(results).extracting(ActionResult::isSuccess, ActionResult::getStatusCode, ActionResult::isRetryable)
+                .containsExactly(tuple(false, 429, true), tuple(false, 429, true));
+        assertThat(service.getConcurrencyLimiter().getLimit()).isLessThan(limit);
+    }
+
+    @Test
+    void shouldFailAllActionsRetryablyWhenConnectionFails() {
+        respond(request -> {
+            throw new SocketTimeoutException("Read timed out");
+        });
+        List<ReconciliationAction> actions = List.of(
+                ReconciliationAction.create(release("Quarkus 3.17.0"), CALENDAR_ID),
+                ReconciliationAction.create(release("Quarkus 3.18.0"), CALENDAR_ID));
+
+        List<ActionResult> results = service.executeBatch(actions);
+
+        assertThat(results).extracting(ActionResult::isSuccess, ActionResult::getStatusCode, ActionResult::isRetryable)
+                .containsExactly(tuple(false, 0, true), tuple(false, 0, true));
+    }
+
+    @Test
+    void shouldFailActionsMissingFromTheResponse() {
+        respond(request -> batch(part(200, "{\"id\": \"created\"}")));
+        List<ReconciliationAction> actions = List.of(
+                ReconciliationAction.create(release("Quarkus 3.17.0"), CALENDAR_ID),
+                ReconciliationAction.create(release("Quarkus 3.18.0"), CALENDAR_ID));
+
+        List<ActionResult> results = service.executeBatch(actions);
+
+        assertThat(results).extracting(ActionResult::isSuccess, ActionResult::isRetryable)
+                .containsExactly(tuple(true, false), tuple(false, true));
+    }
+
+    @Test
+    void shouldNotRetryActionsWhenInterrupted() {
+        respond(request -> {
+            Thread.currentThread().interrupt();
+            throw new IOException("Connection closed");
+        });
+        List<ReconciliationAction> actions = List.of(ReconciliationAction.create(release("Quarkus 3.17.0"), CALENDAR_ID));
+
+        try {
+            List<ActionResult> results = service.executeBatch(actions);
+
+            assertThat(results).extracting(ActionResult::isSuccess, ActionResult::isRetryable)
+                    .containsExactly(tuple(false, false));
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    private StubCalendarTransport respond(StubCalendarTransport.Responder responder) {
+        StubCalendarTransport transport = new StubCalendarTransport(responder);
+        service.useCalendarService(transport.client());
+        return transport;
+    }
+
+    private static ImmutableEvent release(String title) {
+        return ImmutableEvent.of(new ReleaseEvent(title, LocalDate.of(2025, 11, 15)));
+    }
+
+    private static Event remote(String id, String summary) {
+        return EventUtils.toGoogleEvent(ImmutableEvent.of(new ReleaseEvent(summary, LocalDate.of(2025, 11, 15))))
+                .setId(id);
+    }
+}
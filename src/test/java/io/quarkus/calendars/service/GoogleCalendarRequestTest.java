@@ -0,0 +1,127 @@
+package io.quarkus.calendars.service;
+
+import com.google.api.services.calendar.model.Event;
+import io.quarkus.calendars.config.GoogleCalendarConfig;
+import io.quarkus.calendars.model.ImmutableEvent;
+import io.quarkus.calendars.model.ReconciliationAction;
+import io.quarkus.calendars.model.ReleaseEvent;
+import io.quarkus.calendars.util.EventUtils;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static io.quarkus.calendars.service.StubCalendarTransport.batch;
+import static io.quarkus.calendars.service.StubCalendarTransport.json;
+import static io.quarkus.calendars.service.StubCalendarTransport.part;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Requests sent by {@link GoogleCalendarService}, checked on a stub transport.
+ */
+@QuarkusTest
+@TestProfile(GoogleCalendarRequestTest.CalendarIdsProfile.class)
+class GoogleCalendarRequestTest {
+
+    private static final String CALENDAR_ID = "releases@group.calendar.google.com";
+    private static final LocalDate START = LocalDate.of(2025, 11, 1);
+    private static final LocalDate END = LocalDate.of(2025, 11, 30);
+
+    public static class CalendarIdsProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                "google.calendar.calendars.releases.id", CALENDAR_ID,
+                "google.calendar.calendars.calls.id", "calls@group.calendar.google.com");
+        }
+    }
+
+    @Inject
+    GoogleCalendarConfig config;
+
+    private GoogleCalendarService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new GoogleCalendarService();
+        service.config = config;
+        service.init();
+    }
+
+    @Test
+    void shouldConnectToCalendarsWithoutEvents() {
+        // An empty partial response has no item list at all
+        StubCalendarTransport transport = respond(request -> json(200, "{}"));
+
+        assertThat(service.testConnection()).isTrue();
+        assertThat(transport.requests()).extracting(request -> request.parameter("fields"))
+                .containsExactly("items(id)", "items(id)");
+    }
+
+    @Test
+    void shouldRequestListedFieldsOnly() throws Exception {
+        StubCalendarTransport transport = respond(request -> json(200, "{\"items\": []}"));
+
+        service.listEvents(CALENDAR_ID, START, END);
+        service.listManagedEvents(CALENDAR_ID, START, END);
+
+        assertThat(transport.requests()).extracting(request -> request.parameter("fields"))
+                .containsOnly(GoogleCalendarService.LIST_FIELDS);
+        assertThat(transport.requests()).extracting(request -> request.parameter("privateExtendedProperty"))
+                .containsExactly(null, GoogleCalendarService.MANAGED_FILTER);
+    }
+
+    @Test
+    void shouldRequestOnlyTheIdOfWrittenEvents() throws Exception {
+        StubCalendarTransport transport = respond(request -> json(200, "{\"id\": \"remote-1\"}"));
+        Event event = remote("remote-1", "Quarkus 3.17.0");
+
+        service.createEvent(CALENDAR_ID, event);
+        service.updateEvent(CALENDAR_ID, "remote-1", event);
+        service.patchEvent(CALENDAR_ID, "remote-1", new Event().setSummary("Quarkus 3.17.1"));
+
+        assertThat(transport.requests()).extracting(StubCalendarTransport.Request::method)
+                .containsExactly("POST", "PUT", "PATCH");
+        assertThat(transport.requests()).extracting(request -> request.parameter("fields"))
+                .containsOnly(GoogleCalendarService.WRITE_FIELDS);
+    }
+
+    @Test
+    void shouldRequestOnlyTheIdOfBatchedWrites() {
+        StubCalendarTransport transport = respond(request -> batch(
+                part(200, "{\"id\": \"created\"}"), part(200, "{\"id\": \"remote-1\"}"), part(204, "")));
+
+        service.executeBatch(List.of(
+                ReconciliationAction.create(release("Quarkus 3.17.0"), CALENDAR_ID),
+                ReconciliationAction.update(release("Quarkus 3.18.0"), remote("remote-1", "Quarkus 3.18"), CALENDAR_ID),
+                ReconciliationAction.delete(remote("remote-2", "Quarkus 3.16.0"), CALENDAR_ID)));
+
+        String body = transport.requests().getFirst().body();
+        String events = "https://www.googleapis.com/calendar/v3/calendars/" + CALENDAR_ID + "/events";
+        assertThat(body).containsSubsequence(
+                "POST " + events + "?fields=id HTTP/1.1",
+                "PATCH " + events + "/remote-1?fields=id HTTP/1.1",
+                "DELETE " + events + "/remote-2 HTTP/1.1");
+    }
+
+    private StubCalendarTransport respond(StubCalendarTransport.Responder responder) {
+        StubCalendarTransport transport = new StubCalendarTransport(responder);
+        service.useCalendarService(transport.client());
+        return transport;
+    }
+
+    private static ImmutableEvent release(String title) {
+        return ImmutableEvent.of(new ReleaseEvent(title, LocalDate.of(2025, 11, 15)));
+    }
+
+    private static Event remote(String id, String summary) {
+        return EventUtils.toGoogleEvent(ImmutableEvent.of(new ReleaseEvent(summary, LocalDate.of(2025, 11, 15))))
+                .setId(id);
+    }
+}
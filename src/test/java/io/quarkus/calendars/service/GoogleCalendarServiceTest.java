@@ -32,12 +32,12 @@ class GoogleCalendarServiceTest {
     @Test
     void shouldHaveConfigurationLoaded() {
         assertThat(config.applicationName()).isEqualTo("quarkus-calendars");
-        assertThat(config.calendars().releases().name()).isEqualTo("quarkus-releases");
-        assertThat(config.calendars().calls().name()).isEqualTo("quarkus-calls");
+        assertThat(config.calendars().get("releases").name()).isEqualTo("quarkus-releases");
+        assertThat(config.calendars().get("calls").name()).isEqualTo("quarkus-calls");
 
         System.out.println("Service account key path: " + config.serviceAccountKey());
-        System.out.println("Releases calendar ID configured: " + config.calendars().releases().id().isPresent());
-        System.out.println("Calls calendar ID configured: " + config.calendars().calls().id().isPresent());
+        System.out.println("Releases calendar ID configured: " + config.calendars().get("releases").id().isPresent());
+        System.out.println("Calls calendar ID configured: " + config.calendars().get("calls").id().isPresent());
     }
 
     @Test
@@ -0,0 +1,181 @@
+package io.quarkus.calendars.service;
+
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.util.DateTime;
+import com.google.api.services.calendar.model.Event;
+import io.quarkus.calendars.config.GoogleCalendarConfig;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static io.quarkus.calendars.service.StubCalendarTransport.error;
+import static io.quarkus.calendars.service.StubCalendarTransport.json;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Incremental sync of {@link GoogleCalendarService} against a stub transport.
+ */
+@QuarkusTest
+@TestProfile(GoogleCalendarSyncTest.SyncProfile.class)
+class GoogleCalendarSyncTest {
+
+    private static final String SYNC_DIR = "target/calendar-sync-test";
+    private static final String CALENDAR_ID = "releases@group.calendar.google.com";
+    private static final LocalDate START = LocalDate.of(2025, 11, 1);
+
+    public static class SyncProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                "google.calendar.sync.enabled", "true",
+                "google.calendar.sync.directory", SYNC_DIR);
+        }
+    }
+
+    @Inject
+    GoogleCalendarConfig config;
+
+    private GoogleCalendarService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path directory = Paths.get(SYNC_DIR);
+        if (Files.exists(directory)) {
+            try (Stream<Path> paths = Files.walk(directory)) {
+                paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+        service = new GoogleCalendarService();
+        service.config = config;
+        service.init();
+    }
+
+    @Test
+    void shouldListFromStartOfWindowOnFirstSync() throws Exception {
+        StubCalendarTransport transport = respond(request -> request.parameter("pageToken") == null
+                ? json(200, page("page-2", null, event("1", "Quarkus 3.17.0", "2025-11-15")))
+                : json(200, page(null, "token-1", event("2", "Quarkus 3.18.0", "2025-12-15"))));
+
+        assertThat(service.syncEvents(CALENDAR_ID, START))
+                .extracting(Event::getSummary).containsExactly("Quarkus 3.17.0", "Quarkus 3.18.0");
+
+        assertThat(transport.requests()).hasSize(2);
+        StubCalendarTransport.Request first = transport.requests().getFirst();
+        assertThat(first.parameter("syncToken")).isNull();
+        assertThat(timeMin(first)).isEqualTo(START.minusDays(1));
+        assertThat(first.parameter("timeMax")).isNull();
+        assertThat(first.parameter("fields")).isEqualTo(GoogleCalendarService.LIST_FIELDS);
+        assertThat(transport.requests().get(1).parameter("pageToken")).isEqualTo("page-2");
+    }
+
+    @Test
+    void shouldFetchOnlyChangesWithToken() throws Exception {
+        respond(request -> json(200, page(null, "token-1",
+                event("1", "Quarkus 3.17.0", "2025-11-15"), event("2", "Quarkus 3.18.0", "2025-12-15"))));
+        service.syncEvents(CALENDAR_ID, START);
+
+        StubCalendarTransport transport = respond(request -> json(200, page(null, "token-2",
+                event("1", "Quarkus 3.17.1", "2025-11-16"), cancelled("2"))));
+
+        assertThat(service.syncEvents(CALENDAR_ID, START.plusDays(1)))
+                .extracting(Event::getSummary).containsExactly("Quarkus 3.17.1");
+
+        StubCalendarTransport.Request request = transport.requests().getFirst();
+        assertThat(request.parameter("syncToken")).isEqualTo("token-1");
+        assertThat(request.parameter("timeMin")).isNull();
+    }
+
+    @Test
+    void shouldListAgainWhenTokenExpired() throws Exception {
+        respond(request -> json(200, page(null, "token-1", event("1", "Quarkus 3.17.0", "2025-11-15"))));
+        service.syncEvents(CALENDAR_ID, START);
+
+        StubCalendarTransport transport = respond(request -> request.parameter("syncToken") != null
+                ? error(410, "fullSyncRequired")
+                : json(200, page(null, "token-2", event("3", "Quarkus 3.19.0", "2026-01-15"))));
+
+        assertThat(service.syncEvents(CALENDAR_ID, START))
+                .extracting(Event::getSummary).containsExactly("Quarkus 3.19.0");
+
+        assertThat(transport.requests()).hasSize(2);
+        assertThat(transport.requests().getFirst().parameter("syncToken")).isEqualTo("token-1");
+        assertThat(transport.requests().get(1).parameter("syncToken")).isNull();
+        assertThat(timeMin(transport.requests().get(1))).isEqualTo(START.minusDays(1));
+
+        // The fresh listing replaced the state of the next run
+        transport = respond(request -> json(200, page(null, "token-3")));
+        service.syncEvents(CALENDAR_ID, START);
+        assertThat(transport.requests().getFirst().parameter("syncToken")).isEqualTo("token-2");
+    }
+
+    @Test
+    void shouldListAgainWhenWindowStartsBeforeMirror() throws Exception {
+        respond(request -> json(200, page(null, "token-1", event("1", "Quarkus 3.17.0", "2025-11-15"))));
+        service.syncEvents(CALENDAR_ID, START);
+
+        LocalDate earlier = START.minusMonths(1);
+        StubCalendarTransport transport = respond(request -> json(200, page(null, "token-2",
+                event("0", "Quarkus 3.16.0", "2025-10-15"), event("1", "Quarkus 3.17.0", "2025-11-15"))));
+
+        assertThat(service.syncEvents(CALENDAR_ID, earlier)).hasSize(2);
+
+        StubCalendarTransport.Request request = transport.requests().getFirst();
+        assertThat(request.parameter("syncToken")).isNull();
+        assertThat(timeMin(request)).isEqualTo(earlier.minusDays(1));
+    }
+
+    @Test
+    void shouldNotListAgainOnOtherErrors() throws Exception {
+        respond(request -> json(200, page(null, "token-1", event("1", "Quarkus 3.17.0", "2025-11-15"))));
+        service.syncEvents(CALENDAR_ID, START);
+
+        StubCalendarTransport transport = respond(request -> error(404, "notFound"));
+
+        assertThatThrownBy(() -> service.syncEvents(CALENDAR_ID, START))
+                .isInstanceOf(GoogleJsonResponseException.class);
+        assertThat(transport.requests()).hasSize(1);
+    }
+
+    private StubCalendarTransport respond(StubCalendarTransport.Responder responder) {
+        StubCalendarTransport transport = new StubCalendarTransport(responder);
+        service.useCalendarService(transport.client());
+        return transport;
+    }
+
+    private static LocalDate timeMin(StubCalendarTransport.Request request) {
+        long millis = DateTime.parseRfc3339(request.parameter("timeMin")).getValue();
+        return Instant.ofEpochMilli(millis).atZone(ZoneOffset.UTC).toLocalDate();
+    }
+
+    private static String page(String nextPageToken, String nextSyncToken, String... items) {
+        return "{\"items\": [" + String.join(",", items) + "]"
+                + (nextPageToken != null ? ", \"nextPageToken\": \"" + nextPageToken + "\"" : "")
+                + (nextSyncToken != null ? ", \"nextSyncToken\": \"" + nextSyncToken + "\"" : "")
+                + "}";
+    }
+
+    private static String event(String id, String summary, String date) {
+        return """
+                {"id": "%s", "status": "confirmed", "summary": "%s", "start": {"date": "%s"}, "end": {"date": "%s"}}
+                """.formatted(id, summary, date, LocalDate.parse(date).plusDays(1));
+    }
+
+    private static String cancelled(String id) {
+        return "{\"id\": \"" + id + "\", \"status\": \"cancelled\"}";
+    }
+}
@@ -10,8 +10,11 @@ import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
 
 /**
  * Tests for EventLoader using dynamically generated test YAML files.
@@ -188,4 +191,65 @@ class LocalEventLoaderWithTestDataTest {
 
         assertThat(events).isEmpty();
     }
+
+    @Test
+    void shouldLoadSameEventsSequentiallyAndConcurrently() {
+        LocalEventLoader sequentialLoader = new LocalEventLoader(
+            TEST_BASE_DIR + "/releases",
+            TEST_BASE_DIR + "/calls",
+            1
+        );
+        try {
+            var field = LocalEventLoader.class.getDeclaredField("yamlMapper");
+            field.setAccessible(true);
+            field.set(sequentialLoader, yamlMapper);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+
+        assertThat(localEventLoader.loadReleaseEvents())
+            .extracting(ReleaseEvent::getTitle, ReleaseEvent::getDate)
+            .containsExactlyElementsOf(sequentialLoader.loadReleaseEvents().stream()
+                .map(event -> tuple(event.getTitle(), event.getDate()))
+                .toList());
+        assertThat(localEventLoader.loadCallEvents())
+            .extracting(CallEvent::getTitle, CallEvent::getDate)
+            .containsExactlyElementsOf(sequentialLoader.loadCallEvents().stream()
+                .map(event -> tuple(event.getTitle(), event.getDate()))
+                .toList());
+    }
+
+    @Test
+    void shouldRejectInvalidParallelism() {
+        assertThatThrownBy(() -> new LocalEventLoader(TEST_BASE_DIR + "/releases", TEST_BASE_DIR + "/calls", 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldStreamSameEventsAsLoaded() {
+        LocalDate today = LocalDate.now();
+        LocalDate startDate = today.minusMonths(2);
+        LocalDate endDate = today.plusMonths(3);
+
+        try (Stream<ReleaseEvent> releases = localEventLoader.streamReleaseEvents(startDate, endDate);
+             Stream<CallEvent> calls = localEventLoader.streamCallEvents(startDate, endDate)) {
+            assertThat(releases.map(ReleaseEvent::getTitle))
+                .containsExactlyInAnyOrderElementsOf(localEventLoader.loadReleaseEvents(startDate, endDate).stream()
+                    .map(ReleaseEvent::getTitle)
+                    .toList());
+            assertThat(calls.map(CallEvent::getTitle))
+                .containsExactlyInAnyOrderElementsOf(localEventLoader.loadCallEvents(startDate, endDate).stream()
+                    .map(CallEvent::getTitle)
+                    .toList());
+        }
+    }
+
+    @Test
+    void shouldStopStreamingEarly() {
+        LocalDate today = LocalDate.now();
+
+        try (Stream<ReleaseEvent> releases = localEventLoader.streamReleaseEvents(today.minusYears(1), today.plusYears(1))) {
+            assertThat(releases.limit(2)).hasSize(2);
+        }
+    }
 }
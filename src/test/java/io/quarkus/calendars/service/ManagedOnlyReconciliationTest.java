@@ -0,0 +1,157 @@
+package io.quarkus.calendars.service;
+
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.google.api.services.calendar.model.Event;
+import io.quarkus.calendars.model.CallEvent;
+import io.quarkus.calendars.model.EventField;
+import io.quarkus.calendars.model.ImmutableEvent;
+import io.quarkus.calendars.model.ReconciliationAction;
+import io.quarkus.calendars.model.ReleaseEvent;
+import io.quarkus.calendars.util.EventUtils;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@QuarkusTest
+@TestProfile(ManagedOnlyReconciliationTest.ManagedOnlyProfile.class)
+class ManagedOnlyReconciliationTest {
+
+    private static final String TEST_BASE_DIR = "target/managed-only-events";
+
+    public static class ManagedOnlyProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                "quarkus.arc.selected-alternatives", "io.quarkus.calendars.service.MockGoogleCalendarService",
+                "google.calendar.calendars.releases.id", "test-releases@calendar.com",
+                "google.calendar.calendars.releases.directory", TEST_BASE_DIR + "/releases",
+                "google.calendar.calendars.calls.id", "test-calls@calendar.com",
+                "google.calendar.calendars.calls.directory", TEST_BASE_DIR + "/calls",
+                "reconciliation.managed-only", "true"
+            );
+        }
+    }
+
+    private static final String RELEASES_CALENDAR_ID = "test-releases@calendar.com";
+    private static final String CALLS_CALENDAR_ID = "test-calls@calendar.com";
+
+    @Inject
+    CalendarReconciliation reconciliation;
+
+    @Inject
+    MockGoogleCalendarService mockCalendarService;
+
+    private final LocalDate startDate = LocalDate.now().minusMonths(1);
+    private final LocalDate endDate = LocalDate.now().plusMonths(4);
+
+    @BeforeAll
+    static void generateTestData() throws Exception {
+        YAMLMapper mapper = new YAMLMapper();
+        mapper.registerModule(new JavaTimeModule());
+        TestEventGenerator generator = new TestEventGenerator(mapper, TEST_BASE_DIR);
+        generator.generateReleaseEvents();
+        generator.generateCallEvents();
+    }
+
+    @BeforeEach
+    void setUp() {
+        mockCalendarService.reset();
+    }
+
+    @Test
+    void shouldListCalendarOnceForOrphanWarnings() {
+        mockCalendarService.addEvent(RELEASES_CALENDAR_ID,
+            mockCalendarService.createMockEvent("Unmanaged External Event", LocalDate.now().plusMonths(2)));
+
+        reconciliation.reconcileReleases(startDate, endDate, true);
+
+        // Orphan warnings need all events, a filtered listing of the managed ones would download them twice
+        assertThat(mockCalendarService.getPageRequests()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDeleteManagedAndWarnAboutUnmanagedOrphans() {
+        LocalDate date = LocalDate.now().plusMonths(2);
+        Event managedEvent = mockCalendarService.createMockEvent("Managed Event To Be Deleted", date);
+        managedEvent.setExtendedProperties(new Event.ExtendedProperties()
+            .setPrivate(Map.of("managedBy", "quarkus-calendars")));
+        mockCalendarService.addEvent(RELEASES_CALENDAR_ID, managedEvent);
+        mockCalendarService.addEvent(RELEASES_CALENDAR_ID,
+            mockCalendarService.createMockEvent("Unmanaged External Event", date));
+
+        List<ReconciliationAction> actions = reconciliation.reconcileReleases(startDate, endDate, true);
+
+        assertThat(actions)
+            .filteredOn(a -> a.getType() == ReconciliationAction.ActionType.DELETE)
+            .extracting(ReconciliationAction::getEventId)
+            .containsExactly(managedEvent.getId());
+        assertThat(actions)
+            .filteredOn(a -> a.getType() == ReconciliationAction.ActionType.WARN_ORPHAN)
+            .extracting(a -> a.getRemoteEvent().getSummary())
+            .containsExactly("Unmanaged External Event");
+    }
+
+    @Test
+    void shouldTakeOverUnmanagedEventsMatchingLocalEvents() {
+        Event handMade = handMadeTwin(ImmutableEvent.of(
+            new ReleaseEvent("Current Month Release 1.0.0", LocalDate.now().plusDays(5))));
+        handMade.setDescription("Edited by hand");
+        mockCalendarService.addEvent(RELEASES_CALENDAR_ID, handMade);
+
+        List<ReconciliationAction> actions = reconciliation.reconcileReleases(startDate, endDate, true);
+
+        assertThat(actions)
+            .filteredOn(a -> handMade.getId().equals(a.getEventId()))
+            .singleElement()
+            .satisfies(a -> {
+                assertThat(a.getType()).isEqualTo(ReconciliationAction.ActionType.UPDATE);
+                assertThat(a.getChangedFields()).containsExactly(EventField.DESCRIPTION);
+            });
+        assertThat(actions)
+            .filteredOn(a -> a.getType() == ReconciliationAction.ActionType.CREATE)
+            .extracting(a -> a.getLocalEvent().getTitle())
+            .isNotEmpty()
+            .doesNotContain(handMade.getSummary());
+    }
+
+    @Test
+    void shouldLeaveUnmanagedEventsMatchingLocalEventsAlone() {
+        // Same content as the generated call, including its description and call link
+        Event handMade = handMadeTwin(ImmutableEvent.of(new CallEvent("Current Month Community Call",
+            "Monthly community sync to discuss recent developments", LocalDate.now().plusDays(7),
+            LocalTime.of(15, 30), Duration.ofMinutes(60), "https://meet.google.com/current-call")));
+        mockCalendarService.addEvent(CALLS_CALENDAR_ID, handMade);
+
+        List<ReconciliationAction> actions = reconciliation.reconcileCalls(startDate, endDate, true);
+
+        assertThat(actions).noneMatch(a -> handMade.getId().equals(a.getEventId()));
+        assertThat(actions)
+            .filteredOn(a -> a.getType() == ReconciliationAction.ActionType.CREATE)
+            .extracting(a -> a.getLocalEvent().getTitle())
+            .isNotEmpty()
+            .doesNotContain(handMade.getSummary());
+    }
+
+    /**
+     * An event created by hand with the same content as the local event.
+     */
+    private static Event handMadeTwin(ImmutableEvent localEvent) {
+        Event event = EventUtils.toGoogleEvent(localEvent);
+        event.setExtendedProperties(null);
+        event.setId("hand-made-" + localEvent.getEpochDay());
+        return event;
+    }
+}
@@ -0,0 +1,150 @@
+package io.quarkus.calendars.service;
+
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.google.api.services.calendar.model.Event;
+import io.quarkus.calendars.model.ReconciliationAction;
+import io.quarkus.calendars.util.EventUtils;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@QuarkusTest
+@TestProfile(MergeDiffReconciliationTest.MergeProfile.class)
+class MergeDiffReconciliationTest {
+
+    private static final String TEST_BASE_DIR = "target/merge-diff-events";
+
+    public static class MergeProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                "quarkus.arc.selected-alternatives", "io.quarkus.calendars.service.MockGoogleCalendarService",
+                "google.calendar.calendars.releases.id", "test-releases@calendar.com",
+                "google.calendar.calendars.releases.directory", TEST_BASE_DIR + "/releases",
+                "google.calendar.calendars.calls.id", "test-calls@calendar.com",
+                "google.calendar.calendars.calls.directory", TEST_BASE_DIR + "/calls",
+                "reconciliation.diff-engine", "merge"
+            );
+        }
+    }
+
+    private static final String RELEASES_CALENDAR_ID = "test-releases@calendar.com";
+
+    @Inject
+    CalendarReconciliation reconciliation;
+
+    @Inject
+    MockGoogleCalendarService mockCalendarService;
+
+    private final LocalDate startDate = LocalDate.now().minusMonths(1);
+    private final LocalDate endDate = LocalDate.now().plusMonths(4);
+
+    @BeforeAll
+    static void generateTestData() throws Exception {
+        YAMLMapper mapper = new YAMLMapper();
+        mapper.registerModule(new JavaTimeModule());
+        TestEventGenerator generator = new TestEventGenerator(mapper, TEST_BASE_DIR);
+        generator.generateReleaseEvents();
+        generator.generateCallEvents();
+    }
+
+    @BeforeEach
+    void setUp() {
+        mockCalendarService.reset();
+    }
+
+    @Test
+    void shouldEmitActionsInDateOrder() {
+        LocalDate date = LocalDate.now().plusDays(10);
+        Event managedEvent = mockCalendarService.createMockEvent("Managed Event To Be Deleted", date);
+        managedEvent.setExtendedProperties(new Event.ExtendedProperties()
+            .setPrivate(Map.of("managedBy", "quarkus-calendars")));
+        mockCalendarService.addEvent(RELEASES_CALENDAR_ID, managedEvent);
+        mockCalendarService.addEvent(RELEASES_CALENDAR_ID,
+            mockCalendarService.createMockEvent("Unmanaged External Event", date.minusDays(5)));
+
+        List<ReconciliationAction> actions = reconciliation.reconcileReleases(startDate, endDate, true);
+
+        assertThat(actions).extracting(MergeDiffReconciliationTest::date).isSortedAccordingTo(Comparator.naturalOrder());
+        assertThat(actions)
+            .filteredOn(a -> a.getType() == ReconciliationAction.ActionType.CREATE)
+            .extracting(a -> a.getLocalEvent().getTitle())
+            .containsExactly("Current Month Release 1.0.0", "Current Month Release 2.0.0",
+                "Next Month Release 3.0.0", "Future Release 4.0.0");
+        assertThat(actions)
+            .filteredOn(a -> a.getType() == ReconciliationAction.ActionType.DELETE)
+            .extracting(ReconciliationAction::getEventId)
+            .containsExactly(managedEvent.getId());
+        assertThat(actions)
+            .filteredOn(a -> a.getType() == ReconciliationAction.ActionType.WARN_ORPHAN)
+            .extracting(a -> a.getRemoteEvent().getSummary())
+            .containsExactly("Unmanaged External Event");
+    }
+
+    @Test
+    void shouldMatchEventsAcrossPages() {
+        List<ReconciliationAction> creates = reconciliation.reconcileReleases(startDate, endDate, true);
+        assertThat(creates).hasSize(4).allMatch(a -> a.getType() == ReconciliationAction.ActionType.CREATE);
+        for (ReconciliationAction create : creates) {
+            mockCalendarService.addEvent(RELEASES_CALENDAR_ID,
+                EventUtils.toGoogleEvent(create.getLocalEvent()).setId(create.getEventId()));
+        }
+        mockCalendarService.setPageSize(1);
+
+        List<ReconciliationAction> actions = reconciliation.reconcileReleases(startDate, endDate, true);
+
+        assertThat(actions).isEmpty();
+        assertThat(mockCalendarService.getPageRequests()).isGreaterThanOrEqualTo(4);
+    }
+
+    @Test
+    void shouldExecuteActionsOnceListed() {
+        mockCalendarService.setPageSize(1);
+
+        List<ReconciliationAction> actions = reconciliation.reconcileReleases(startDate, endDate);
+
+        assertThat(actions).hasSize(4);
+        assertThat(mockCalendarService.getEventCount(RELEASES_CALENDAR_ID)).isEqualTo(4);
+        assertThat(reconciliation.reconcileReleases(startDate, endDate, true)).isEmpty();
+    }
+
+    @Test
+    void shouldApplyNothingWhenListingFails() {
+        int remoteEvents = 0;
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(5)) {
+            mockCalendarService.addEvent(RELEASES_CALENDAR_ID,
+                mockCalendarService.createMockEvent("Unmanaged External Event " + date, date));
+            remoteEvents++;
+        }
+        mockCalendarService.setPageSize(1);
+        // Fails near the end, once the days of the local events were diffed
+        mockCalendarService.failListingsAfter(remoteEvents - 1);
+
+        assertThatThrownBy(() -> reconciliation.reconcileReleases(startDate, endDate))
+            .isInstanceOf(RuntimeException.class)
+            .hasRootCauseInstanceOf(IOException.class);
+
+        assertThat(mockCalendarService.getBatchRequests()).isZero();
+        assertThat(mockCalendarService.getEventCount(RELEASES_CALENDAR_ID)).isEqualTo(remoteEvents);
+    }
+
+    private static LocalDate date(ReconciliationAction action) {
+        return action.getLocalEvent() != null
+            ? action.getLocalEvent().getDate()
+            : EventUtils.extractDate(action.getRemoteEvent());
+    }
+}
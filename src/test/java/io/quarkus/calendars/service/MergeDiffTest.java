@@ -0,0 +1,107 @@
+package io.quarkus.calendars.service;
+
+import com.google.api.services.calendar.model.Event;
+import io.quarkus.calendars.model.ImmutableEvent;
+import io.quarkus.calendars.model.ReconciliationAction;
+import io.quarkus.calendars.model.ReleaseEvent;
+import io.quarkus.calendars.util.EventUtils;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MergeDiffTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 11, 1);
+    private static final LocalDate END = LocalDate.of(2025, 11, 30);
+
+    private final List<ReconciliationAction> emitted = new ArrayList<>();
+
+    @Test
+    void shouldDiffDaysBeforeTheListingEnds() {
+        MergeDiff merge = merge(local("Quarkus 3.30.0", 1), local("Quarkus 3.30.1", 5));
+
+        merge.accept(List.of(remote("Quarkus 3.30.0", 1)));
+        merge.accept(List.of(remote("Hand-made event", 4)));
+        merge.accept(List.of(remote("Later event", 10)));
+
+        // Days up to two days before the last listed one are closed
+        assertThat(emitted).extracting(ReconciliationAction::toString)
+            .containsExactly("Warning: Remote event without local file: Hand-made event",
+                "Create event: Quarkus 3.30.1");
+        assertThat(merge.pendingRemoteEvents()).isEqualTo(1);
+
+        merge.finish();
+
+        assertThat(emitted).extracting(ReconciliationAction::toString)
+            .endsWith("Warning: Remote event without local file: Later event");
+        assertThat(merge.pendingRemoteEvents()).isZero();
+    }
+
+    @Test
+    void shouldAcceptEventsListedADayEarly() {
+        MergeDiff merge = merge(local("Quarkus 3.30.0", 4));
+
+        merge.accept(List.of(remote("Other event", 5)));
+        merge.accept(List.of(remote("Quarkus 3.30.0", 4)));
+        merge.finish();
+
+        assertThat(emitted).extracting(ReconciliationAction::toString)
+            .containsExactly("Warning: Remote event without local file: Other event");
+    }
+
+    @Test
+    void shouldRejectEventsListedAfterTheirDayWasDiffed() {
+        MergeDiff merge = merge();
+
+        merge.accept(List.of(remote("Later event", 10)));
+
+        assertThatThrownBy(() -> merge.accept(List.of(remote("Earlier event", 5))))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("not in start time order");
+    }
+
+    @Test
+    void shouldSkipRemoteEventsOutsideTheRange() {
+        MergeDiff merge = merge();
+
+        merge.accept(List.of(remote("Widened event", 0), remote("Widened event", 31)));
+        merge.finish();
+
+        assertThat(emitted).isEmpty();
+    }
+
+    private MergeDiff merge(ImmutableEvent... localEvents) {
+        return new MergeDiff(List.of(localEvents), START, END, MergeDiffTest::diff, emitted::addAll);
+    }
+
+    /**
+     * A simplified diff: matching titles are up to date.
+     */
+    private static List<ReconciliationAction> diff(long day, List<ImmutableEvent> locals, List<Event> remotes) {
+        List<ReconciliationAction> actions = new ArrayList<>();
+        for (ImmutableEvent local : locals) {
+            if (remotes.stream().noneMatch(remote -> remote.getSummary().equals(local.getTitle()))) {
+                actions.add(ReconciliationAction.create(local, "calendar"));
+            }
+        }
+        for (Event remote : remotes) {
+            if (locals.stream().noneMatch(local -> local.getTitle().equals(remote.getSummary()))) {
+                actions.add(ReconciliationAction.warnOrphan(remote, "calendar"));
+            }
+        }
+        return actions;
+    }
+
+    private static ImmutableEvent local(String title, int day) {
+        return ImmutableEvent.of(new ReleaseEvent(title, START.plusDays(day - 1)));
+    }
+
+    private static Event remote(String title, int day) {
+        return EventUtils.toGoogleEvent(local(title, day)).setId(title.toLowerCase().replace(' ', '-') + "-" + day);
+    }
+}
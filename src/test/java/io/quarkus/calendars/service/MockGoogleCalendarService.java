@@ -1,38 +1,157 @@
 package io.quarkus.calendars.service;
 
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
+import com.google.api.client.util.Data;
 import com.google.api.client.util.DateTime;
 import com.google.api.services.calendar.model.Event;
 import com.google.api.services.calendar.model.EventDateTime;
+import io.quarkus.calendars.model.ActionResult;
+import io.quarkus.calendars.model.ReconciliationAction;
+import io.quarkus.calendars.util.EventUtils;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Alternative;
 
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 /**
  * Mock implementation of GoogleCalendarService for testing.
+ * <p>
+ * State is kept in concurrent collections rather than behind a lock, so that batches for different
+ * calendars really run at the same time, as they do against the real API.
  */
 @Alternative
 @ApplicationScoped
 public class MockGoogleCalendarService extends GoogleCalendarService {
 
-    private final Map<String, List<Event>> calendarEvents = new HashMap<>();
+    private final Map<String, List<Event>> calendarEvents = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> calendarEventIds = new ConcurrentHashMap<>();
     private final AtomicInteger eventIdCounter = new AtomicInteger(1);
+    private volatile int pageSize = MAX_PAGE_SIZE;
+    private final AtomicInteger pageRequests = new AtomicInteger();
+    private final AtomicInteger batchRequests = new AtomicInteger();
+    private final AtomicInteger failingWrites = new AtomicInteger();
+    private final AtomicInteger timingOutCreates = new AtomicInteger();
+    private volatile int failureStatusCode;
+    private volatile boolean failuresApplied;
+    private final Set<String> unavailableCalendars = ConcurrentHashMap.newKeySet();
+    private final Map<String, CountDownLatch> heldCalendars = new ConcurrentHashMap<>();
+    private final Map<String, CountDownLatch> heldListings = new ConcurrentHashMap<>();
+    private final AtomicInteger interruptedListings = new AtomicInteger();
+    private volatile int failingListingsAfter = -1;
 
     public void reset() {
+        heldCalendars.values().forEach(CountDownLatch::countDown);
+        heldCalendars.clear();
+        heldListings.values().forEach(CountDownLatch::countDown);
+        heldListings.clear();
+        interruptedListings.set(0);
+        failingListingsAfter = -1;
         calendarEvents.clear();
+        calendarEventIds.clear();
         eventIdCounter.set(1);
+        pageSize = MAX_PAGE_SIZE;
+        pageRequests.set(0);
+        batchRequests.set(0);
+        failingWrites.set(0);
+        timingOutCreates.set(0);
+        unavailableCalendars.clear();
+        resetRetryBudget();
+    }
+
+    /**
+     * Fail every listing of the given calendar, as when it does not exist.
+     */
+    public void makeUnavailable(String calendarId) {
+        unavailableCalendars.add(calendarId);
+    }
+
+    /**
+     * Fail the next write actions of batch requests with the given status code.
+     *
+     * @param applied whether the failed writes still change the calendar, as when only the response is lost
+     */
+    public void failNextWrites(int count, int statusCode, boolean applied) {
+        failureStatusCode = statusCode;
+        failuresApplied = applied;
+        failingWrites.set(count);
+    }
+
+    /**
+     * Let the next single event creations time out without reaching the calendar.
+     */
+    public void timeOutNextCreates(int count) {
+        timingOutCreates.set(count);
+    }
+
+    /**
+     * Block batch requests for the given calendar until the gate opens.
+     */
+    public void holdBatches(String calendarId, CountDownLatch gate) {
+        heldCalendars.put(calendarId, gate);
+    }
+
+    /**
+     * Block listings of the given calendar until the gate opens, or the listing thread is interrupted.
+     */
+    public void holdListings(String calendarId, CountDownLatch gate) {
+        heldListings.put(calendarId, gate);
+    }
+
+    /**
+     * The number of held listings that were interrupted, as when the reconciliation cancels them.
+     */
+    public int getInterruptedListings() {
+        return interruptedListings.get();
+    }
+
+    /**
+     * Fail every listing once it handed over the given number of pages, as when the connection drops.
+     */
+    public void failListingsAfter(int pages) {
+        failingListingsAfter = pages;
+    }
+
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public int getPageRequests() {
+        return pageRequests.get();
+    }
+
+    public int getBatchRequests() {
+        return batchRequests.get();
     }
 
     public void addEvent(String calendarId, Event event) {
         if (event.getId() == null) {
             event.setId("event-" + eventIdCounter.getAndIncrement());
         }
-        calendarEvents.computeIfAbsent(calendarId, k -> new ArrayList<>()).add(event);
+        calendarEventIds(calendarId).add(event.getId());
+        events(calendarId).add(event);
+    }
+
+    private List<Event> events(String calendarId) {
+        return calendarEvents.computeIfAbsent(calendarId, k -> new CopyOnWriteArrayList<>());
+    }
+
+    private Set<String> calendarEventIds(String calendarId) {
+        return calendarEventIds.computeIfAbsent(calendarId, k -> ConcurrentHashMap.newKeySet());
     }
 
     public Event createMockEvent(String title, LocalDate date) {
@@ -83,11 +202,132 @@ public class MockGoogleCalendarService extends GoogleCalendarService {
     }
 
     @Override
-    public void createEvent(String calendarId, Event event) {
+    public void listEvents(String calendarId, LocalDate startDate, LocalDate endDate, Consumer<List<Event>> pages)
+            throws IOException {
+        if (unavailableCalendars.contains(calendarId)) {
+            throw new IOException("Calendar not available: " + calendarId);
+        }
+        CountDownLatch gate = heldListings.get(calendarId);
+        if (gate != null) {
+            try {
+                if (!gate.await(30, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("Listing of " + calendarId + " held for too long");
+                }
+            } catch (InterruptedException e) {
+                interruptedListings.incrementAndGet();
+                throw new InterruptedIOException("Interrupted while listing " + calendarId);
+            }
+        }
+        // Same widened window as the server-side time range
+        List<Event> events = calendarEvents.getOrDefault(calendarId, List.of()).stream()
+                .filter(event -> {
+                    LocalDate date = EventUtils.extractDate(event);
+                    return !date.isBefore(startDate.minusDays(1)) && !date.isAfter(endDate.plusDays(1));
+                })
+                .sorted(Comparator.comparing(EventUtils::extractDate))
+                .toList();
+        int from = 0;
+        int handedOver = 0;
+        do {
+            if (handedOver == failingListingsAfter) {
+                throw new IOException("Listing of " + calendarId + " failed after " + handedOver + " pages");
+            }
+            handedOver++;
+            int to = Math.min(from + pageSize, events.size());
+            pageRequests.incrementAndGet();
+            if (to > from) {
+                pages.accept(new ArrayList<>(events.subList(from, to)));
+            }
+            from = to;
+        } while (from < events.size());
+    }
+
+    @Override
+    public void listManagedEvents(String calendarId, LocalDate startDate, LocalDate endDate,
+                                  Consumer<List<Event>> pages) throws IOException {
+        listEvents(calendarId, startDate, endDate, page -> {
+            List<Event> managed = page.stream().filter(EventUtils::isManagedByUs).toList();
+            if (!managed.isEmpty()) {
+                pages.accept(new ArrayList<>(managed));
+            }
+        });
+    }
+
+    @Override
+    public List<Event> syncEvents(String calendarId, LocalDate startDate) {
+        return new ArrayList<>(calendarEvents.getOrDefault(calendarId, List.of()));
+    }
+
+    @Override
+    public List<ActionResult> executeBatch(List<ReconciliationAction> actions) {
+        batchRequests.incrementAndGet();
+        awaitGate(actions.getFirst().getCalendarId());
+        List<ActionResult> results = new ArrayList<>();
+        for (ReconciliationAction action : actions) {
+            boolean failing = failingWrites.getAndUpdate(count -> Math.max(0, count - 1)) > 0;
+            try {
+                if (!failing || failuresApplied) {
+                    apply(action);
+                }
+                results.add(failing
+                        ? ActionResult.failure(action, failureStatusCode, "Injected failure",
+                                RetryPolicy.isRetryable(failureStatusCode, null), null)
+                        : ActionResult.success(action));
+            } catch (GoogleJsonResponseException e) {
+                results.add(ActionResult.failure(action, e.getStatusCode(), e.getMessage()));
+            } catch (RuntimeException e) {
+                results.add(ActionResult.failure(action, 404, e.getMessage()));
+            }
+        }
+        return results;
+    }
+
+    private void awaitGate(String calendarId) {
+        CountDownLatch gate = heldCalendars.get(calendarId);
+        if (gate == null) {
+            return;
+        }
+        try {
+            if (!gate.await(30, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Batch for " + calendarId + " held for too long");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while holding batch for " + calendarId, e);
+        }
+    }
+
+    private void apply(ReconciliationAction action) throws GoogleJsonResponseException {
+        switch (action.getType()) {
+            case CREATE -> insertEvent(action.getCalendarId(),
+                    EventUtils.toGoogleEvent(action.getLocalEvent()).setId(action.getEventId()));
+            case UPDATE -> patchEvent(action.getCalendarId(), action.getEventId(),
+                    EventUtils.toGoogleEventPatch(action.getLocalEvent(), action.getChangedFields(),
+                            action.getRemoteEvent()));
+            case DELETE -> deleteEvent(action.getCalendarId(), action.getEventId());
+            case WARN_ORPHAN -> {
+            }
+        }
+    }
+
+    @Override
+    public void createEvent(String calendarId, Event event) throws IOException {
+        if (timingOutCreates.getAndUpdate(count -> Math.max(0, count - 1)) > 0) {
+            throw new SocketTimeoutException("Read timed out");
+        }
+        insertEvent(calendarId, event);
+    }
+
+    private void insertEvent(String calendarId, Event event) throws GoogleJsonResponseException {
         if (event.getId() == null) {
             event.setId("event-" + eventIdCounter.getAndIncrement());
         }
-        calendarEvents.computeIfAbsent(calendarId, k -> new ArrayList<>()).add(event);
+        String id = event.getId();
+        if (!calendarEventIds(calendarId).add(id)) {
+            throw new GoogleJsonResponseException(
+                    new HttpResponseException.Builder(409, "Event already exists: " + id, new HttpHeaders()), null);
+        }
+        events(calendarId).add(event);
     }
 
     @Override
@@ -98,18 +338,29 @@ public class MockGoogleCalendarService extends GoogleCalendarService {
                 if (events.get(i).getId().equals(eventId)) {
                     event.setId(eventId);
                     events.set(i, event);
+                    return;
                 }
             }
         }
         throw new NoSuchElementException("Event not found: " + eventId);
     }
 
+    @Override
+    public void patchEvent(String calendarId, String eventId, Event patch) {
+        Event event = calendarEvents.getOrDefault(calendarId, List.of()).stream()
+                .filter(e -> e.getId().equals(eventId))
+                .findFirst()
+                .orElseThrow(() -> new NoSuchElementException("Event not found: " + eventId));
+        patch.forEach((field, value) -> event.set(field, Data.isNull(value) ? null : value));
+    }
+
     @Override
     public void deleteEvent(String calendarId, String eventId) {
         List<Event> events = calendarEvents.get(calendarId);
         if (events != null) {
             events.removeIf(e -> e.getId().equals(eventId));
         }
+        calendarEventIds(calendarId).remove(eventId);
     }
 
     public int getEventCount(String calendarId) {
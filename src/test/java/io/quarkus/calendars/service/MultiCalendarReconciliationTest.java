@@ -0,0 +1,100 @@
+package io.quarkus.calendars.service;
+
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.quarkus.calendars.model.ReconciliationAction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@QuarkusTest
+@TestProfile(MultiCalendarReconciliationTest.MultiCalendarProfile.class)
+class MultiCalendarReconciliationTest {
+
+    private static final String TEST_BASE_DIR = "target/multi-calendar-events";
+    private static final String CONFERENCES_CALENDAR_ID = "test-conferences@calendar.com";
+
+    public static class MultiCalendarProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                "quarkus.arc.selected-alternatives", "io.quarkus.calendars.service.MockGoogleCalendarService",
+                "google.calendar.calendars.releases.id", "test-releases@calendar.com",
+                "google.calendar.calendars.calls.id", "test-calls@calendar.com",
+                "google.calendar.calendars.conferences.id", CONFERENCES_CALENDAR_ID,
+                "google.calendar.calendars.conferences.name", "Conferences",
+                "google.calendar.calendars.conferences.directory", TEST_BASE_DIR + "/releases",
+                "google.calendar.calendars.conferences.kind", "release",
+                "google.calendar.calendars.conferences.months-before", "0",
+                "google.calendar.calendars.conferences.months-after", "1"
+            );
+        }
+    }
+
+    @Inject
+    CalendarReconciliation reconciliation;
+
+    @Inject
+    MockGoogleCalendarService mockCalendarService;
+
+    @BeforeAll
+    static void generateTestData() throws Exception {
+        YAMLMapper mapper = new YAMLMapper();
+        mapper.registerModule(new JavaTimeModule());
+        new TestEventGenerator(mapper, TEST_BASE_DIR).generateReleaseEvents();
+    }
+
+    @BeforeEach
+    void setUp() {
+        mockCalendarService.reset();
+    }
+
+    @Test
+    void shouldReconcileEveryConfiguredCalendar() {
+        List<ReconciliationAction> actions = reconciliation.reconcile(true);
+
+        assertThat(reconciliation.calendarNames()).containsExactly("releases", "calls", "conferences");
+        assertThat(actions).extracting(ReconciliationAction::getCalendarId)
+            .contains(CONFERENCES_CALENDAR_ID)
+            .isSortedAccordingTo((a, b) -> Integer.compare(order(a), order(b)));
+    }
+
+    @Test
+    void shouldUseTheWindowOfEachCalendar() {
+        LocalDate today = LocalDate.now();
+
+        List<ReconciliationAction> actions = reconciliation.reconcileCalendar("conferences", true);
+
+        assertThat(actions)
+            .isNotEmpty()
+            .allMatch(action -> action.getType() == ReconciliationAction.ActionType.CREATE)
+            .extracting(action -> action.getLocalEvent().getDate())
+            .allMatch(date -> !date.isBefore(today) && !date.isAfter(today.plusMonths(1)));
+    }
+
+    @Test
+    void shouldRejectUnknownCalendars() {
+        assertThatThrownBy(() -> reconciliation.reconcileCalendar("platform", true))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("platform");
+    }
+
+    private static int order(String calendarId) {
+        return switch (calendarId) {
+            case "test-releases@calendar.com" -> 0;
+            case "test-calls@calendar.com" -> 1;
+            default -> 2;
+        };
+    }
+}
@@ -0,0 +1,64 @@
+package io.quarkus.calendars.service;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The remote events are fetched while the local events load; a failing local load cancels the fetch.
+ */
+@QuarkusTest
+@TestProfile(OverlappedFetchTest.BrokenDirectoryProfile.class)
+class OverlappedFetchTest {
+
+    private static final String CALENDAR_ID = "test-releases@calendar.com";
+
+    public static class BrokenDirectoryProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                "quarkus.arc.selected-alternatives", "io.quarkus.calendars.service.MockGoogleCalendarService",
+                "google.calendar.calendars.releases.id", CALENDAR_ID,
+                // Not a valid path, loading the local events fails
+                "google.calendar.calendars.releases.directory", "target/broken\u0000events");
+        }
+    }
+
+    @Inject
+    CalendarReconciliation reconciliation;
+
+    @Inject
+    MockGoogleCalendarService mockCalendarService;
+
+    @BeforeEach
+    void setUp() {
+        mockCalendarService.reset();
+    }
+
+    @Test
+    void shouldCancelRemoteFetchWhenLocalLoadFails() {
+        CountDownLatch gate = new CountDownLatch(1);
+        mockCalendarService.holdListings(CALENDAR_ID, gate);
+        try {
+            assertThatThrownBy(() -> reconciliation.reconcileCalendar("releases",
+                    LocalDate.of(2025, 11, 1), LocalDate.of(2025, 11, 30), true))
+                    .isInstanceOf(RuntimeException.class);
+
+            // The fetch has ended before the failure is reported, through an interrupt rather than the gate
+            assertThat(gate.getCount()).isEqualTo(1);
+            assertThat(mockCalendarService.getInterruptedListings()).isEqualTo(1);
+        } finally {
+            gate.countDown();
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package io.quarkus.calendars.service;
 
 import com.google.api.services.calendar.model.Event;
+import io.quarkus.calendars.model.ActionResult;
+import io.quarkus.calendars.model.EventField;
+import io.quarkus.calendars.model.ImmutableEvent;
 import io.quarkus.calendars.model.ReconciliationAction;
+import io.quarkus.calendars.model.ReleaseEvent;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.QuarkusTestProfile;
 import io.quarkus.test.junit.TestProfile;
@@ -11,8 +15,13 @@ import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -28,7 +37,9 @@ class ReconciliationActionsTest {
                 "google.calendar.calendars.releases.id", "test-releases@calendar.com",
                 "google.calendar.calendars.calls.id", "test-calls@calendar.com",
                 "reconciliation.months-before", "1",
-                "reconciliation.months-after", "4"
+                "reconciliation.months-after", "4",
+                "google.calendar.retry.initial-backoff", "10ms",
+                "google.calendar.retry.max-backoff", "50ms"
             );
         }
     }
@@ -39,6 +50,9 @@ class ReconciliationActionsTest {
     @Inject
     MockGoogleCalendarService mockCalendarService;
 
+    @Inject
+    ActionExecutor actionExecutor;
+
     private static final String RELEASES_CALENDAR_ID = "test-releases@calendar.com";
     private static final String CALLS_CALENDAR_ID = "test-calls@calendar.com";
 
@@ -285,6 +299,200 @@ class ReconciliationActionsTest {
         System.out.println("Date range respected - excluded " + 2 + " out-of-range events");
     }
 
+    @Test
+    void shouldReadEveryPageOfRemoteEvents() {
+        LocalDate today = LocalDate.now();
+        mockCalendarService.setPageSize(2);
+        for (int i = 0; i < 5; i++) {
+            mockCalendarService.addEvent(RELEASES_CALENDAR_ID,
+                mockCalendarService.createMockEvent("Remote Only Release " + i, today.plusDays(i)));
+        }
+
+        List<ReconciliationAction> actions = reconciliation.reconcileReleases(
+            today.minusMonths(1),
+            today.plusMonths(4),
+            true
+        );
+
+        assertThat(actions)
+            .filteredOn(a -> a.getType() == ReconciliationAction.ActionType.WARN_ORPHAN)
+            .hasSize(5);
+        assertThat(mockCalendarService.getPageRequests()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldSendWritesInBatches() {
+        LocalDate today = LocalDate.now();
+        List<ReconciliationAction> actions = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            ImmutableEvent release = ImmutableEvent.of(new ReleaseEvent("Bulk Release " + i, today.plusDays(i % 30)));
+            actions.add(ReconciliationAction.create(release, RELEASES_CALENDAR_ID));
+        }
+        Event orphan = mockCalendarService.createMockEvent("Unmanaged External Event", today);
+        actions.add(ReconciliationAction.warnOrphan(orphan, RELEASES_CALENDAR_ID));
+
+        List<ActionResult> results = actionExecutor.execute(actions);
+
+        assertThat(results).extracting(ActionResult::getAction).containsExactlyElementsOf(actions);
+        assertThat(results).allMatch(ActionResult::isSuccess);
+        assertThat(mockCalendarService.getBatchRequests()).isEqualTo(3);
+        assertThat(mockCalendarService.getEventCount(RELEASES_CALENDAR_ID)).isEqualTo(120);
+    }
+
+    @Test
+    void shouldExecuteBatchesOfCalendarsConcurrently() throws Exception {
+        LocalDate today = LocalDate.now();
+        List<ReconciliationAction> actions = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            actions.add(ReconciliationAction.create(
+                    ImmutableEvent.of(new ReleaseEvent("Held Release " + i, today)), RELEASES_CALENDAR_ID));
+            actions.add(ReconciliationAction.create(
+                    ImmutableEvent.of(new ReleaseEvent("Free Release " + i, today)), CALLS_CALENDAR_ID));
+        }
+        CountDownLatch gate = new CountDownLatch(1);
+        mockCalendarService.holdBatches(RELEASES_CALENDAR_ID, gate);
+
+        CompletableFuture<List<ActionResult>> execution = CompletableFuture.supplyAsync(
+                () -> actionExecutor.execute(actions));
+        try {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (mockCalendarService.getEventCount(CALLS_CALENDAR_ID) < 2 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            // The calls batch completed while the releases batch is still in flight
+            assertThat(mockCalendarService.getEventCount(CALLS_CALENDAR_ID)).isEqualTo(2);
+            assertThat(mockCalendarService.getEventCount(RELEASES_CALENDAR_ID)).isZero();
+            assertThat(execution).isNotDone();
+        } finally {
+            gate.countDown();
+        }
+
+        List<ActionResult> results = execution.get(10, TimeUnit.SECONDS);
+        assertThat(results).allMatch(ActionResult::isSuccess);
+        assertThat(mockCalendarService.getBatchRequests()).isEqualTo(2);
+        assertThat(mockCalendarService.getEventCount(RELEASES_CALENDAR_ID)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReportFailuresPerAction() {
+        LocalDate today = LocalDate.now();
+        ImmutableEvent release = ImmutableEvent.of(new ReleaseEvent("Quarkus 9.0.0", today));
+        Event missing = mockCalendarService.createMockEvent("Quarkus 9.0.0", today);
+        List<ReconciliationAction> actions = List.of(
+            ReconciliationAction.create(release, RELEASES_CALENDAR_ID),
+            ReconciliationAction.update(release, missing, RELEASES_CALENDAR_ID),
+            ReconciliationAction.create(release, CALLS_CALENDAR_ID));
+
+        List<ActionResult> results = actionExecutor.execute(actions);
+
+        assertThat(results).extracting(ActionResult::isSuccess).containsExactly(true, false, true);
+        assertThat(results.get(1).getStatusCode()).isEqualTo(404);
+        assertThat(mockCalendarService.getEventCount(RELEASES_CALENDAR_ID)).isEqualTo(1);
+        assertThat(mockCalendarService.getEventCount(CALLS_CALENDAR_ID)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldPatchOnlyChangedFields() {
+        LocalDate today = LocalDate.now();
+        Event remoteEvent = mockCalendarService.createMockEvent("Quarkus 9.1.0", today);
+        remoteEvent.setDescription("Outdated description");
+        remoteEvent.setLocation("Edited by hand");
+        mockCalendarService.addEvent(RELEASES_CALENDAR_ID, remoteEvent);
+        ReleaseEvent release = new ReleaseEvent("Quarkus 9.1.0", today);
+        release.setDescription("New description");
+        ReconciliationAction update = ReconciliationAction.update(ImmutableEvent.of(release), remoteEvent,
+            RELEASES_CALENDAR_ID, Set.of(EventField.DESCRIPTION));
+        assertThat(update).hasToString("Update event: Quarkus 9.1.0 (description)");
+
+        List<ActionResult> results = actionExecutor.execute(List.of(update));
+
+        assertThat(results).allMatch(ActionResult::isSuccess);
+        Event patched = mockCalendarService.listEvents(RELEASES_CALENDAR_ID, 10).getFirst();
+        assertThat(patched.getDescription()).isEqualTo("New description");
+        assertThat(patched.getLocation()).isEqualTo("Edited by hand");
+        assertThat(patched.getExtendedProperties().getPrivate()).containsEntry("managedBy", "quarkus-calendars");
+    }
+
+    @Test
+    void shouldRetryTransientFailures() {
+        List<ReconciliationAction> actions = creates(3);
+        mockCalendarService.failNextWrites(2, 503, false);
+
+        List<ActionResult> results = actionExecutor.execute(actions);
+
+        assertThat(results).allMatch(ActionResult::isSuccess);
+        assertThat(mockCalendarService.getBatchRequests()).isEqualTo(2);
+        assertThat(mockCalendarService.getEventCount(RELEASES_CALENDAR_ID)).isEqualTo(3);
+    }
+
+    @Test
+    void shouldRetryTimedOutRequests() {
+        List<ReconciliationAction> actions = creates(1);
+        mockCalendarService.timeOutNextCreates(1);
+
+        List<ActionResult> results = actionExecutor.execute(actions);
+
+        assertThat(results).allMatch(ActionResult::isSuccess);
+        assertThat(mockCalendarService.getEventCount(RELEASES_CALENDAR_ID)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotCreateTwiceWhenResponseIsLost() {
+        List<ReconciliationAction> actions = creates(2);
+        mockCalendarService.failNextWrites(1, 503, true);
+
+        List<ActionResult> results = actionExecutor.execute(actions);
+
+        assertThat(results).allMatch(ActionResult::isSuccess);
+        assertThat(mockCalendarService.getEventCount(RELEASES_CALENDAR_ID)).isEqualTo(2);
+        assertThat(actions).extracting(ReconciliationAction::getEventId).allMatch(id -> id.matches("[0-9a-v]{26}"));
+    }
+
+    @Test
+    void shouldNotRetryPermanentFailures() {
+        List<ReconciliationAction> actions = creates(2);
+        mockCalendarService.failNextWrites(1, 400, false);
+
+        List<ActionResult> results = actionExecutor.execute(actions);
+
+        assertThat(results).extracting(ActionResult::isSuccess).containsExactly(false, true);
+        assertThat(results.getFirst().getStatusCode()).isEqualTo(400);
+        assertThat(mockCalendarService.getBatchRequests()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldGiveUpAfterMaxAttempts() {
+        List<ReconciliationAction> actions = creates(2);
+        mockCalendarService.failNextWrites(100, 500, false);
+
+        List<ActionResult> results = actionExecutor.execute(actions);
+
+        assertThat(results).noneMatch(ActionResult::isSuccess);
+        assertThat(mockCalendarService.getBatchRequests()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldShareRetryBudgetWithinRun() {
+        mockCalendarService.failNextWrites(30, 503, false);
+        assertThat(actionExecutor.execute(creates(30))).allMatch(ActionResult::isSuccess);
+
+        // The 50 retries of the run are shared, only 20 are left for the next plan
+        mockCalendarService.failNextWrites(30, 503, false);
+        List<ActionResult> results = actionExecutor.execute(creates(30));
+
+        assertThat(results).filteredOn(ActionResult::isSuccess).hasSize(20);
+        assertThat(mockCalendarService.getRetryBudget().remaining()).isZero();
+    }
+
+    private static List<ReconciliationAction> creates(int count) {
+        List<ReconciliationAction> actions = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ImmutableEvent release = ImmutableEvent.of(new ReleaseEvent("Retried Release " + i, LocalDate.now()));
+            actions.add(ReconciliationAction.create(release, RELEASES_CALENDAR_ID));
+        }
+        return actions;
+    }
+
     @Test
     void shouldDeleteManagedOrphanEvents() {
         LocalDate today = LocalDate.now();
@@ -0,0 +1,101 @@
+package io.quarkus.calendars.service;
+
+import com.google.api.services.calendar.model.Event;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RemoteEventMirrorTest {
+
+    private static final String CALENDAR_ID = "releases@group.calendar.google.com";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldStartWithoutToken() {
+        RemoteEventMirror mirror = RemoteEventMirror.open(directory, CALENDAR_ID);
+
+        assertThat(mirror.syncToken()).isNull();
+        assertThat(mirror.events()).isEmpty();
+    }
+
+    @Test
+    void shouldKeepEventsAndTokenAcrossRuns() {
+        RemoteEventMirror mirror = RemoteEventMirror.open(directory, CALENDAR_ID);
+        mirror.apply(List.of(event("1", "Quarkus 3.17.0"), event("2", "Quarkus 3.18.0")));
+        mirror.save("token-1");
+
+        RemoteEventMirror reopened = RemoteEventMirror.open(directory, CALENDAR_ID);
+
+        assertThat(reopened.syncToken()).isEqualTo("token-1");
+        assertThat(reopened.events()).extracting(Event::getSummary).containsExactly("Quarkus 3.17.0", "Quarkus 3.18.0");
+    }
+
+    @Test
+    void shouldApplyUpdatesAndCancellations() {
+        RemoteEventMirror mirror = RemoteEventMirror.open(directory, CALENDAR_ID);
+        mirror.apply(List.of(event("1", "Quarkus 3.17.0"), event("2", "Quarkus 3.18.0")));
+
+        mirror.apply(List.of(event("1", "Quarkus 3.17.1"), event("2", null).setStatus("cancelled"),
+                event("3", "Quarkus 3.19.0")));
+
+        assertThat(mirror.events()).extracting(Event::getSummary).containsExactly("Quarkus 3.17.1", "Quarkus 3.19.0");
+    }
+
+    @Test
+    void shouldClearEventsAndToken() {
+        RemoteEventMirror mirror = RemoteEventMirror.open(directory, CALENDAR_ID);
+        mirror.apply(List.of(event("1", "Quarkus 3.17.0")));
+        mirror.save("token-1");
+
+        mirror.clear(LocalDate.of(2025, 1, 1));
+
+        assertThat(mirror.syncToken()).isNull();
+        assertThat(mirror.events()).isEmpty();
+    }
+
+    @Test
+    void shouldCoverDaysFromFirstFullListing() {
+        RemoteEventMirror mirror = RemoteEventMirror.open(directory, CALENDAR_ID);
+        mirror.clear(LocalDate.of(2025, 6, 1));
+        assertThat(mirror.covers(LocalDate.of(2025, 6, 1))).isFalse();
+        mirror.save("token-1");
+
+        RemoteEventMirror reopened = RemoteEventMirror.open(directory, CALENDAR_ID);
+
+        assertThat(reopened.covers(LocalDate.of(2025, 6, 1))).isTrue();
+        assertThat(reopened.covers(LocalDate.of(2025, 9, 1))).isTrue();
+        assertThat(reopened.covers(LocalDate.of(2025, 5, 31))).isFalse();
+    }
+
+    @Test
+    void shouldNotCoverStateWithoutListedRange() {
+        RemoteEventMirror.open(directory, CALENDAR_ID).save("token-1");
+
+        assertThat(RemoteEventMirror.open(directory, CALENDAR_ID).covers(LocalDate.of(2025, 6, 1))).isFalse();
+    }
+
+    @Test
+    void shouldIgnoreUnreadableState() throws Exception {
+        RemoteEventMirror.open(directory, CALENDAR_ID).save("token-1");
+        try (var files = Files.list(directory)) {
+            Files.writeString(files.findFirst().orElseThrow(), "{ not json");
+        }
+
+        RemoteEventMirror mirror = RemoteEventMirror.open(directory, CALENDAR_ID);
+
+        assertThat(mirror.syncToken()).isNull();
+        assertThat(mirror.events()).isEmpty();
+    }
+
+    private static Event event(String id, String summary) {
+        return new Event().setId(id).setSummary(summary);
+    }
+}
@@ -0,0 +1,46 @@
+package io.quarkus.calendars.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RetryBudgetTest {
+
+    @Test
+    void shouldAllowRetriesUntilExhausted() {
+        RetryBudget budget = new RetryBudget(2);
+
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isFalse();
+        assertThat(budget.remaining()).isZero();
+    }
+
+    @Test
+    void shouldNotOverspendWhenShared() {
+        RetryBudget budget = new RetryBudget(50);
+        AtomicInteger granted = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 200; i++) {
+                executor.submit(() -> {
+                    if (budget.tryAcquire()) {
+                        granted.incrementAndGet();
+                    }
+                });
+            }
+        }
+
+        assertThat(granted).hasValue(50);
+    }
+
+    @Test
+    void shouldRejectNegativeBudget() {
+        assertThatThrownBy(() -> new RetryBudget(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,54 @@
+package io.quarkus.calendars.service;
+
+import com.google.api.client.http.HttpHeaders;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RetryPolicyTest {
+
+    private final RetryPolicy policy = new RetryPolicy(4, Duration.ofSeconds(1), Duration.ofSeconds(8));
+
+    @Test
+    void shouldRetryTransientFailuresOnly() {
+        assertThat(RetryPolicy.isRetryable(0, null)).isTrue();
+        assertThat(RetryPolicy.isRetryable(429, null)).isTrue();
+        assertThat(RetryPolicy.isRetryable(500, null)).isTrue();
+        assertThat(RetryPolicy.isRetryable(503, null)).isTrue();
+        assertThat(RetryPolicy.isRetryable(400, null)).isFalse();
+        assertThat(RetryPolicy.isRetryable(403, null)).isFalse();
+        assertThat(RetryPolicy.isRetryable(404, null)).isFalse();
+        assertThat(RetryPolicy.isRetryable(409, null)).isFalse();
+        assertThat(RetryPolicy.isRetryable(410, null)).isFalse();
+    }
+
+    @Test
+    void shouldGrowBackoffExponentiallyWithJitter() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(policy.backoff(1, null)).isBetween(Duration.ofMillis(500), Duration.ofSeconds(1));
+            assertThat(policy.backoff(3, null)).isBetween(Duration.ofSeconds(2), Duration.ofSeconds(4));
+            assertThat(policy.backoff(10, null)).isBetween(Duration.ofSeconds(4), Duration.ofSeconds(8));
+        }
+    }
+
+    @Test
+    void shouldHonorRetryAfter() {
+        assertThat(policy.backoff(1, Duration.ofSeconds(20))).isEqualTo(Duration.ofSeconds(20));
+        assertThat(policy.backoff(1, Duration.ZERO)).isBetween(Duration.ofMillis(500), Duration.ofSeconds(1));
+    }
+
+    @Test
+    void shouldReadRetryAfterHeader() {
+        assertThat(RetryPolicy.retryAfter(new HttpHeaders().setRetryAfter("7"))).isEqualTo(Duration.ofSeconds(7));
+        assertThat(RetryPolicy.retryAfter(new HttpHeaders())).isNull();
+        assertThat(RetryPolicy.retryAfter(new HttpHeaders().setRetryAfter("soon"))).isNull();
+
+        String date = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now().plusMinutes(1));
+        assertThat(RetryPolicy.retryAfter(new HttpHeaders().setRetryAfter(date)))
+                .isBetween(Duration.ofSeconds(50), Duration.ofSeconds(60));
+    }
+}
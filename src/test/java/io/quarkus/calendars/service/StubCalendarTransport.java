@@ -0,0 +1,133 @@
+package io.quarkus.calendars.service;
+
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpRequest;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
+import com.google.api.services.calendar.Calendar;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * HTTP transport answering Google Calendar API requests with canned responses, and recording the requests
+ * it received, to exercise {@link GoogleCalendarService} down to the wire format.
+ */
+class StubCalendarTransport extends MockHttpTransport {
+
+    private static final String BOUNDARY = "batch_stub";
+
+    /**
+     * A request as received by the transport.
+     */
+    record Request(String method, GenericUrl url, String contentType, String body) {
+
+        String parameter(String name) {
+            Object value = url.getFirst(name);
+            return value != null ? value.toString() : null;
+        }
+    }
+
+    /**
+     * Answers a request, or fails it as the connection would.
+     */
+    @FunctionalInterface
+    interface Responder {
+        MockLowLevelHttpResponse respond(Request request) throws IOException;
+    }
+
+    private final Responder responder;
+    private final List<Request> requests = new CopyOnWriteArrayList<>();
+
+    StubCalendarTransport(Responder responder) {
+        this.responder = responder;
+    }
+
+    /**
+     * A client sending its requests through this transport.
+     */
+    Calendar client() {
+        return new Calendar.Builder(this, GsonFactory.getDefaultInstance(), null)
+                .setApplicationName("quarkus-calendars-test")
+                .build();
+    }
+
+    List<Request> requests() {
+        return requests;
+    }
+
+    @Override
+    public LowLevelHttpRequest buildRequest(String method, String url) {
+        return new MockLowLevelHttpRequest(url) {
+            @Override
+            public LowLevelHttpResponse execute() throws IOException {
+                Request request = new Request(method, new GenericUrl(url), getContentType(), getContentAsString());
+                requests.add(request);
+                return responder.respond(request);
+            }
+        };
+    }
+
+    /**
+     * A JSON response with the given status code.
+     */
+    static MockLowLevelHttpResponse json(int statusCode, String content) {
+        return new MockLowLevelHttpResponse()
+                .setStatusCode(statusCode)
+                .setContentType("application/json; charset=UTF-8")
+                .setContent(content);
+    }
+
+    /**
+     * A JSON error response, as sent by the API.
+     */
+    static MockLowLevelHttpResponse error(int statusCode, String reason) {
+        return json(statusCode, errorContent(statusCode, reason));
+    }
+
+    /**
+     * A batch response holding the given parts, in the order of the batched requests.
+     */
+    static MockLowLevelHttpResponse batch(String... parts) {
+        StringBuilder content = new StringBuilder();
+        for (String part : parts) {
+            content.append("--").append(BOUNDARY).append("\r\n")
+                    .append("Content-Type: application/http\r\n\r\n")
+                    .append(part).append("\r\n");
+        }
+        content.append("--").append(BOUNDARY).append("--\r\n");
+        return new MockLowLevelHttpResponse()
+                .setStatusCode(200)
+                .setContentType("multipart/mixed; boundary=" + BOUNDARY)
+                .setContent(content.toString());
+    }
+
+    /**
+     * A part of a batch response with a JSON body.
+     */
+    static String part(int statusCode, String content, String... headers) {
+        StringBuilder part = new StringBuilder("HTTP/1.1 ").append(statusCode).append(" Status\r\n")
+                .append("Content-Type: application/json; charset=UTF-8\r\n");
+        for (String header : headers) {
+            part.append(header).append("\r\n");
+        }
+        return part.append("\r\n").append(content).toString();
+    }
+
+    /**
+     * A part of a batch response holding a JSON error, as sent by the API.
+     */
+    static String errorPart(int statusCode, String reason, String... headers) {
+        return part(statusCode, errorContent(statusCode, reason), headers);
+    }
+
+    private static String errorContent(int statusCode, String reason) {
+        return """
+                {"error": {"code": %d, "message": "%s", "errors": [{"domain": "calendar", "reason": "%s"}]}}
+                """.formatted(statusCode, reason, reason);
+    }
+}